@@ -0,0 +1,138 @@
+package software.amazon.auditmanager.assessment;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.services.auditmanager.model.AWSAccount;
+import software.amazon.awssdk.services.auditmanager.model.AWSService;
+import software.amazon.awssdk.services.auditmanager.model.Assessment;
+import software.amazon.awssdk.services.auditmanager.model.AssessmentFramework;
+import software.amazon.awssdk.services.auditmanager.model.AssessmentMetadata;
+import software.amazon.awssdk.services.auditmanager.model.AssessmentMetadataItem;
+import software.amazon.awssdk.services.auditmanager.model.AssessmentReportsDestination;
+import software.amazon.awssdk.services.auditmanager.model.Delegation;
+import software.amazon.awssdk.services.auditmanager.model.DelegationStatus;
+import software.amazon.awssdk.services.auditmanager.model.ListAssessmentsResponse;
+import software.amazon.awssdk.services.auditmanager.model.Role;
+import software.amazon.awssdk.services.auditmanager.model.Scope;
+
+/**
+ * Builds SDK objects of a given size for the benchmarks, the values mirror the ones used by the unit tests.
+ */
+public final class BenchmarkFixtures {
+
+  public static final String ASSESSMENT_ID = "61e675f6-b6b5-4db8-a1be-74e7a5792312";
+  public static final String FRAMEWORK_ID = "B27E48646A20333342C8BCEA9C201A59";
+  public static final String ASSESSMENT_ARN =
+      "arn:aws:auditmanager:us-west-2:111111111111:assessment/" + ASSESSMENT_ID;
+  private static final Instant CREATION_TIME = Instant.ofEpochMilli(1234567891000L);
+  private static final String[] ROLE_TYPES = {"PROCESS_OWNER", "RESOURCE_OWNER"};
+
+  private BenchmarkFixtures() {
+  }
+
+  public static Assessment makeAssessment(final int accounts, final int delegations, final int roles,
+                                          final int tags) {
+    return Assessment.builder()
+        .arn(ASSESSMENT_ARN)
+        .tags(makeTags(tags))
+        .metadata(makeAssessmentMetadata(accounts, delegations, roles))
+        .framework(AssessmentFramework.builder().id(FRAMEWORK_ID).build())
+        .awsAccount(makeAccount(0))
+        .build();
+  }
+
+  public static ListAssessmentsResponse makeListAssessmentsResponse(final int assessments, final int delegations,
+                                                                    final int roles) {
+    final List<AssessmentMetadataItem> items = new ArrayList<>(assessments);
+    for (int i = 0; i < assessments; i++) {
+      items.add(AssessmentMetadataItem.builder()
+          .id(ASSESSMENT_ID + "-" + i)
+          .name("assessment-" + i)
+          .complianceType("CIS")
+          .status("ACTIVE")
+          .creationTime(CREATION_TIME)
+          .roles(makeRoles(roles))
+          .delegations(makeDelegations(delegations))
+          .build());
+    }
+    return ListAssessmentsResponse.builder().assessmentMetadata(items).build();
+  }
+
+  public static AssessmentMetadata makeAssessmentMetadata(final int accounts, final int delegations,
+                                                          final int roles) {
+    return AssessmentMetadata.builder()
+        .id(ASSESSMENT_ID)
+        .name("assessmentName")
+        .description("assessment description")
+        .complianceType("CIS")
+        .status("ACTIVE")
+        .creationTime(CREATION_TIME)
+        .assessmentReportsDestination(AssessmentReportsDestination.builder()
+            .destinationType("S3")
+            .destination("s3://testBucket")
+            .build())
+        .scope(makeScope(accounts))
+        .roles(makeRoles(roles))
+        .delegations(makeDelegations(delegations))
+        .build();
+  }
+
+  public static Scope makeScope(final int accounts) {
+    final List<AWSAccount> awsAccounts = new ArrayList<>(accounts);
+    for (int i = 0; i < accounts; i++) {
+      awsAccounts.add(makeAccount(i));
+    }
+    final List<AWSService> awsServices = new ArrayList<>();
+    awsServices.add(AWSService.builder().serviceName("S3").build());
+    return Scope.builder().awsAccounts(awsAccounts).awsServices(awsServices).build();
+  }
+
+  public static List<Role> makeRoles(final int roles) {
+    final List<Role> result = new ArrayList<>(roles);
+    for (int i = 0; i < roles; i++) {
+      result.add(Role.builder()
+          .roleType(ROLE_TYPES[i % ROLE_TYPES.length])
+          .roleArn("arn:aws:iam::111111111111:role/auditor-" + i)
+          .build());
+    }
+    return result;
+  }
+
+  public static List<Delegation> makeDelegations(final int delegations) {
+    final List<Delegation> result = new ArrayList<>(delegations);
+    for (int i = 0; i < delegations; i++) {
+      result.add(Delegation.builder()
+          .id("DelegationID" + i)
+          .assessmentName("assessmentName")
+          .assessmentId(ASSESSMENT_ID)
+          .status(DelegationStatus.IN_PROGRESS)
+          .roleType(ROLE_TYPES[i % ROLE_TYPES.length])
+          .roleArn("arn:aws:iam::111111111111:role/auditor-" + i)
+          .controlSetId("ControlSetId-" + i)
+          .creationTime(CREATION_TIME)
+          .lastUpdated(CREATION_TIME)
+          .comment("comment " + i)
+          .build());
+    }
+    return result;
+  }
+
+  public static Map<String, String> makeTags(final int tags) {
+    final Map<String, String> result = new HashMap<>();
+    for (int i = 0; i < tags; i++) {
+      result.put("key" + i, "value" + i);
+    }
+    return result;
+  }
+
+  private static AWSAccount makeAccount(final int index) {
+    return AWSAccount.builder()
+        .id(String.format("%012d", 111111111111L + index))
+        .name("account-" + index)
+        .emailAddress("account-" + index + "@example.com")
+        .build();
+  }
+}
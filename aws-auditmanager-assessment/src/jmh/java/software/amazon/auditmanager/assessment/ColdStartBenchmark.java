@@ -0,0 +1,61 @@
+package software.amazon.auditmanager.assessment;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.auditmanager.model.Assessment;
+import software.amazon.awssdk.services.auditmanager.model.CreateAssessmentRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+/**
+ * Time of the local work of a first invocation in a fresh JVM, with and without priming at init: getting
+ * the client of the region, translating a CreateAssessment request and a GetAssessment response, and the
+ * wrapper's (de)serialization of the resource model. Every fork measures a single invocation, the
+ * priming itself runs in the trial setup and is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdStartBenchmark {
+
+  private static final String REGION = "us-west-2";
+
+  @Param({"false", "true"})
+  public boolean primed;
+
+  private Assessment assessment;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    if (primed) {
+      Priming.prime(REGION);
+    }
+    assessment = BenchmarkFixtures.makeAssessment(2, 2, 2, 2);
+  }
+
+  @Benchmark
+  public ResourceModel firstInvocation() throws IOException {
+    ClientBuilder.getClient(REGION);
+    final ResourceModel model = Utils.transformToAssessmentResourceModel(ResourceModel.builder().build(), assessment);
+    final CreateAssessmentRequest request = Utils.transformToCreateAssessmentRequest(model);
+    final Serializer serializer = new Serializer();
+    final ResourceModel roundTripped =
+        serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+    return request.name() == null ? null : roundTripped;
+  }
+}
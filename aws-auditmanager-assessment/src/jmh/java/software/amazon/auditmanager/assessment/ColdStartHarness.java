@@ -0,0 +1,158 @@
+package software.amazon.auditmanager.assessment;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the cold start of each handler: for every run, a fresh JVM is launched on the shaded handler
+ * jar and invokes the handler once, through the SDK, against a local stub of the Audit Manager endpoint.
+ * Reported per handler, as the median, minimum and maximum over the runs:
+ * <ul>
+ *   <li>time to first response, from launching the JVM to the handler's result, as seen by the harness</li>
+ *   <li>the same time as seen from within the JVM, from the JVM start time to the handler's result</li>
+ *   <li>classes loaded up to the result</li>
+ *   <li>peak resident set size up to the result, only available on Linux</li>
+ * </ul>
+ * The launched JVMs inherit the environment of the harness, so settings such as PRIMING_ENABLED apply to
+ * them, and take their JVM options from the coldstart.jvmArgs system property.
+ *
+ * Arguments: the shaded jar, the directory of the compiled benchmark classes, the number of runs per
+ * handler (default 5), the CSV file the raw results are written to (optional) and the handlers to run
+ * (default all).
+ */
+public final class ColdStartHarness {
+
+  private static final List<String> HANDLERS = Arrays.asList("CREATE", "READ", "UPDATE", "DELETE", "LIST");
+  private static final int DEFAULT_RUNS = 5;
+  private static final long PROBE_TIMEOUT_SECONDS = 120L;
+
+  private ColdStartHarness() {
+  }
+
+  public static void main(final String[] args) throws Exception {
+    if (args.length < 2) {
+      throw new IllegalArgumentException(
+          "Usage: ColdStartHarness <shaded jar> <benchmark classes> [runs] [csv file] [handler...]");
+    }
+    final Path jar = Paths.get(args[0]);
+    if (!Files.isRegularFile(jar)) {
+      throw new IllegalArgumentException(jar + " not found, build it with mvn package first");
+    }
+    final String classpath = jar + File.pathSeparator + args[1];
+    final int runs = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RUNS;
+    final Path csv = args.length > 3 && !args[3].isEmpty() ? Paths.get(args[3]) : null;
+    final List<String> handlers = args.length > 4 ?
+        Arrays.asList(Arrays.copyOfRange(args, 4, args.length)) : HANDLERS;
+
+    final List<String> csvLines = new ArrayList<>();
+    csvLines.add("handler,run,status,timeToFirstResponseMillis,sinceJvmStartMillis,classesLoaded,peakRssKilobytes");
+    System.out.println(String.format("%-8s %-12s %4s %22s %22s %22s %22s", "Handler", "Status", "Runs",
+        "First response (ms)", "In-JVM (ms)", "Classes loaded", "Peak RSS (MB)"));
+    try (StubAuditManagerEndpoint endpoint = new StubAuditManagerEndpoint()) {
+      for (final String handler : handlers) {
+        final List<ProbeResult> results = new ArrayList<>(runs);
+        for (int run = 0; run < runs; run++) {
+          final ProbeResult result = probe(classpath, endpoint, handler.toUpperCase(Locale.ROOT));
+          results.add(result);
+          csvLines.add(String.join(",", handler, String.valueOf(run), result.status,
+              String.valueOf(result.timeToFirstResponseMillis), String.valueOf(result.sinceJvmStartMillis),
+              String.valueOf(result.classesLoaded), String.valueOf(result.peakRssKilobytes)));
+        }
+        System.out.println(String.format("%-8s %-12s %4d %22s %22s %22s %22s", handler,
+            results.stream().map(r -> r.status).distinct().collect(Collectors.joining("/")), runs,
+            summary(results, r -> r.timeToFirstResponseMillis),
+            summary(results, r -> r.sinceJvmStartMillis),
+            summary(results, r -> r.classesLoaded),
+            summary(results, r -> r.peakRssKilobytes < 0 ? -1L : r.peakRssKilobytes / 1024)));
+      }
+    }
+    if (csv != null) {
+      Files.write(csv, csvLines, StandardCharsets.UTF_8);
+      System.out.println("Raw results written to " + csv);
+    }
+  }
+
+  private static ProbeResult probe(final String classpath, final StubAuditManagerEndpoint endpoint,
+                                   final String handler) throws IOException, InterruptedException {
+    final List<String> command = new ArrayList<>();
+    command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+    final String jvmArgs = System.getProperty("coldstart.jvmArgs", "").trim();
+    if (!jvmArgs.isEmpty()) {
+      command.addAll(Arrays.asList(jvmArgs.split("\\s+")));
+    }
+    command.addAll(Arrays.asList("-cp", classpath, ColdStartProbe.class.getName(), handler));
+    final ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+    builder.environment().put(HandlerSettings.AUDIT_MANAGER_ENDPOINT_ENV, endpoint.getEndpoint().toString());
+    builder.environment().putIfAbsent(Priming.REGION_ENV, "us-west-2");
+
+    final long startNanos = System.nanoTime();
+    final Process process = builder.start();
+    final List<String> output = new ArrayList<>();
+    ProbeResult result = null;
+    try (BufferedReader reader =
+             new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (result == null && line.startsWith(ColdStartProbe.RESULT_PREFIX)) {
+          result = ProbeResult.parse(line, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        } else {
+          output.add(line);
+        }
+      }
+    }
+    if (!process.waitFor(PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      process.destroyForcibly();
+    }
+    if (result == null) {
+      throw new IllegalStateException(handler + " probe failed:" + System.lineSeparator()
+          + String.join(System.lineSeparator(), output));
+    }
+    return result;
+  }
+
+  private static String summary(final List<ProbeResult> results, final ToLongFunction<ProbeResult> metric) {
+    final List<Long> values = new ArrayList<>(results.size());
+    for (final ProbeResult result : results) {
+      values.add(metric.applyAsLong(result));
+    }
+    Collections.sort(values);
+    return String.format("%d [%d..%d]", values.get(values.size() / 2), values.get(0), values.get(values.size() - 1));
+  }
+
+  private static final class ProbeResult {
+    private final String status;
+    private final long timeToFirstResponseMillis;
+    private final long classesLoaded;
+    private final long peakRssKilobytes;
+    private final long sinceJvmStartMillis;
+
+    private ProbeResult(final String status, final long timeToFirstResponseMillis, final long classesLoaded,
+                        final long peakRssKilobytes, final long sinceJvmStartMillis) {
+      this.status = status;
+      this.timeToFirstResponseMillis = timeToFirstResponseMillis;
+      this.classesLoaded = classesLoaded;
+      this.peakRssKilobytes = peakRssKilobytes;
+      this.sinceJvmStartMillis = sinceJvmStartMillis;
+    }
+
+    private static ProbeResult parse(final String line, final long timeToFirstResponseMillis) {
+      final String[] fields = line.split(" ");
+      return new ProbeResult(fields[1], timeToFirstResponseMillis, Long.parseLong(fields[2]),
+          Long.parseLong(fields[3]), Long.parseLong(fields[4]));
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package software.amazon.auditmanager.assessment;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Entry point of the JVM launched by {@link ColdStartHarness}: invokes a single handler, the way the
+ * wrapper would with fresh handler instances, against the stub endpoint the harness passes through
+ * AUDIT_MANAGER_ENDPOINT, then prints one result line and exits.
+ */
+public final class ColdStartProbe {
+
+  static final String RESULT_PREFIX = "COLD_START_RESULT";
+
+  private static final String REGION = "us-west-2";
+  private static final Path PROC_STATUS = Paths.get("/proc/self/status");
+
+  private ColdStartProbe() {
+  }
+
+  public static void main(final String[] args) throws IOException {
+    final String handlerName = args[0].toUpperCase(Locale.ROOT);
+    // the wrapper builds its configuration while the function initializes, which primes when enabled
+    new Configuration();
+    final ResourceModel model = makeModel();
+    final ResourceHandlerRequest.ResourceHandlerRequestBuilder<ResourceModel> request =
+        ResourceHandlerRequest.<ResourceModel>builder()
+            .awsAccountId("111111111111")
+            .region(REGION)
+            .clientRequestToken("cold-start")
+            .desiredResourceState(model);
+    final BaseHandlerStd handler;
+    switch (handlerName) {
+      case "CREATE":
+        handler = new CreateHandler();
+        model.setAssessmentId(null);
+        model.setArn(null);
+        model.setCreationTime(null);
+        model.setDelegations(null);
+        break;
+      case "READ":
+        handler = new ReadHandler();
+        break;
+      case "UPDATE":
+        handler = new UpdateHandler();
+        // a name and a tag change, so that UpdateAssessment and TagResource are both called
+        final ResourceModel previousModel = makeModel();
+        previousModel.setTags(Collections.emptyList());
+        model.setName("assessmentNameUpdated");
+        request.previousResourceState(previousModel);
+        break;
+      case "DELETE":
+        handler = new DeleteHandler();
+        break;
+      case "LIST":
+        handler = new ListHandler();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown handler " + args[0]);
+    }
+    final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+        new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofMinutes(15).toMillis());
+
+    final ProgressEvent<ResourceModel, CallbackContext> event =
+        handler.handleRequest(proxy, request.build(), null, new LoggerProxy());
+
+    final long sinceJvmStartMillis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    System.out.println(String.join(" ", RESULT_PREFIX,
+        String.valueOf(event.getStatus()),
+        String.valueOf(ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount()),
+        String.valueOf(peakRssKilobytes()),
+        String.valueOf(sinceJvmStartMillis)));
+    System.out.flush();
+    System.exit(0);
+  }
+
+  private static ResourceModel makeModel() {
+    return Utils.transformToAssessmentResourceModel(ResourceModel.builder().build(),
+        BenchmarkFixtures.makeAssessment(1, 0, 1, 1));
+  }
+
+  /**
+   * @return the peak resident set size of the JVM so far, -1 where /proc is not available
+   */
+  private static long peakRssKilobytes() throws IOException {
+    if (!Files.isReadable(PROC_STATUS)) return -1L;
+    for (final String line : Files.readAllLines(PROC_STATUS, StandardCharsets.UTF_8)) {
+      if (line.startsWith("VmHWM:")) {
+        return Long.parseLong(line.replaceAll("[^0-9]", ""));
+      }
+    }
+    return -1L;
+  }
+}
@@ -0,0 +1,111 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.auditmanager.model.Delegation;
+
+/**
+ * Compares the loop based converters of AssessmentMetadataUtils with the stream based implementation
+ * they replaced, on large scopes and long delegation lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+  @Param({"100", "500"})
+  public int accounts;
+
+  @Param({"100", "1000"})
+  public int delegations;
+
+  private software.amazon.awssdk.services.auditmanager.model.Scope sdkScope;
+  private List<Delegation> sdkDelegations;
+  private List<software.amazon.auditmanager.assessment.Delegation> cfnDelegations;
+
+  @Setup
+  public void setup() {
+    sdkScope = BenchmarkFixtures.makeScope(accounts);
+    sdkDelegations = BenchmarkFixtures.makeDelegations(delegations);
+    cfnDelegations = AssessmentMetadataUtils.transformToCfnDelegations(sdkDelegations);
+  }
+
+  @Benchmark
+  public List<software.amazon.auditmanager.assessment.Delegation> transformToCfnDelegations_loop() {
+    return AssessmentMetadataUtils.transformToCfnDelegations(sdkDelegations);
+  }
+
+  @Benchmark
+  public List<software.amazon.auditmanager.assessment.Delegation> transformToCfnDelegations_stream() {
+    return sdkDelegations.stream().map(delegation -> software.amazon.auditmanager.assessment.Delegation.builder()
+        .id(delegation.id())
+        .assessmentName(delegation.assessmentName())
+        .createdBy(delegation.createdBy())
+        .assessmentId(delegation.assessmentId())
+        .status(delegation.statusAsString())
+        .roleType(delegation.roleTypeAsString())
+        .roleArn(delegation.roleArn())
+        .creationTime(Utils.translateInstantToDouble(delegation.creationTime()))
+        .lastUpdated(Utils.translateInstantToDouble(delegation.lastUpdated()))
+        .controlSetId(delegation.controlSetId())
+        .comment(delegation.comment())
+        .build())
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<Delegation> cfnDelegationToSdkDelegation_loop() {
+    return AssessmentMetadataUtils.cfnDelegationToSdkDelegation(cfnDelegations);
+  }
+
+  @Benchmark
+  public List<Delegation> cfnDelegationToSdkDelegation_stream() {
+    return cfnDelegations.stream().map(cfnDelegation -> Delegation.builder()
+        .id(cfnDelegation.getId())
+        .assessmentName(cfnDelegation.getAssessmentName())
+        .createdBy(cfnDelegation.getCreatedBy())
+        .assessmentId(cfnDelegation.getAssessmentId())
+        .status(cfnDelegation.getStatus())
+        .roleType(cfnDelegation.getRoleType())
+        .roleArn(cfnDelegation.getRoleArn())
+        .creationTime(Utils.translateDoubleToInstant(cfnDelegation.getCreationTime()))
+        .lastUpdated(Utils.translateDoubleToInstant(cfnDelegation.getLastUpdated()))
+        .controlSetId(cfnDelegation.getControlSetId())
+        .comment(cfnDelegation.getComment())
+        .build())
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public software.amazon.auditmanager.assessment.Scope transformToCfnScope_loop() {
+    return AssessmentMetadataUtils.transformToCfnScope(sdkScope);
+  }
+
+  @Benchmark
+  public software.amazon.auditmanager.assessment.Scope transformToCfnScope_stream() {
+    return software.amazon.auditmanager.assessment.Scope.builder()
+        .awsServices(sdkScope.awsServices().stream()
+            .map(service -> software.amazon.auditmanager.assessment.AWSService.builder()
+                .serviceName(service.serviceName()).build())
+            .collect(Collectors.toList()))
+        .awsAccounts(sdkScope.awsAccounts().stream()
+            .map(AssessmentMetadataUtils::transformToCfnAWSAccount)
+            .collect(Collectors.toList()))
+        .build();
+  }
+}
@@ -0,0 +1,84 @@
+package software.amazon.auditmanager.assessment;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentRequest;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentResponse;
+
+/**
+ * Compares the HTTP clients the synchronous Audit Manager clients can use, with GetAssessment calls
+ * through ClientBuilder against a local stub endpoint:
+ * <ul>
+ *   <li>getAssessment: latency of a call on a warm client, gc.alloc.rate.norm being its allocation</li>
+ *   <li>firstCall: building the HTTP and SDK clients and making the first call, once per fresh JVM</li>
+ * </ul>
+ * The footprint of each client at startup is measured by the cold-start harness, run with HTTP_CLIENT set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpClientBenchmark {
+
+  private static final String REGION = "us-west-2";
+
+  @Param({"LAMBDA_WRAPPER", "URL_CONNECTION", "APACHE"})
+  public HttpClientType httpClient;
+
+  private StubAuditManagerEndpoint endpoint;
+  private GetAssessmentRequest request;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    endpoint = new StubAuditManagerEndpoint();
+    // clients are built by the first call, so that firstCall measures them
+    ClientBuilder.configure(HandlerSettings.builder()
+        .auditManagerEndpoint(endpoint.getEndpoint().toString())
+        .httpClient(httpClient)
+        .build());
+    // the proxy injects the credentials of the handler request the same way
+    request = GetAssessmentRequest.builder()
+        .assessmentId(StubAuditManagerEndpoint.ASSESSMENT_ID)
+        .overrideConfiguration(configuration -> configuration.credentialsProvider(
+            StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey"))))
+        .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    ClientBuilder.configure(HandlerSettings.defaults());
+    endpoint.close();
+  }
+
+  @Benchmark
+  public GetAssessmentResponse getAssessment() {
+    return ClientBuilder.getClient(REGION).getAssessment(request);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  @Fork(10)
+  public GetAssessmentResponse firstCall() {
+    return ClientBuilder.getClient(REGION).getAssessment(request);
+  }
+}
@@ -0,0 +1,103 @@
+package software.amazon.auditmanager.assessment;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local HTTP endpoint answering the Audit Manager operations the handlers call with canned, valid
+ * responses, so that handlers can be run end to end through the SDK without reaching AWS. Clients are
+ * pointed at it with the AUDIT_MANAGER_ENDPOINT setting. Request signatures are not checked.
+ */
+public final class StubAuditManagerEndpoint implements AutoCloseable {
+
+  static final String ASSESSMENT_ID = BenchmarkFixtures.ASSESSMENT_ID;
+
+  private static final String ASSESSMENT = "{"
+      + "\"arn\":\"" + BenchmarkFixtures.ASSESSMENT_ARN + "\","
+      + "\"awsAccount\":{\"id\":\"111111111111\",\"name\":\"account\",\"emailAddress\":\"account@example.com\"},"
+      + "\"framework\":{\"id\":\"" + BenchmarkFixtures.FRAMEWORK_ID + "\"},"
+      + "\"tags\":{\"key\":\"value\"},"
+      + "\"metadata\":{"
+      + "\"id\":\"" + ASSESSMENT_ID + "\",\"name\":\"assessmentName\",\"description\":\"assessment description\","
+      + "\"complianceType\":\"CIS\",\"status\":\"ACTIVE\",\"creationTime\":1234567891,"
+      + "\"assessmentReportsDestination\":{\"destinationType\":\"S3\",\"destination\":\"s3://testBucket\"},"
+      + "\"scope\":{\"awsAccounts\":[{\"id\":\"111111111111\"}],\"awsServices\":[{\"serviceName\":\"S3\"}]},"
+      + "\"roles\":[{\"roleType\":\"PROCESS_OWNER\",\"roleArn\":\"arn:aws:iam::111111111111:role/auditor\"}],"
+      + "\"delegations\":[]}}";
+  private static final byte[] ASSESSMENT_RESPONSE =
+      ("{\"assessment\":" + ASSESSMENT + "}").getBytes(StandardCharsets.UTF_8);
+  private static final byte[] LIST_RESPONSE = ("{\"assessmentMetadata\":[{"
+      + "\"id\":\"" + ASSESSMENT_ID + "\",\"name\":\"assessmentName\",\"complianceType\":\"CIS\","
+      + "\"status\":\"ACTIVE\",\"creationTime\":1234567891,"
+      + "\"roles\":[{\"roleType\":\"PROCESS_OWNER\",\"roleArn\":\"arn:aws:iam::111111111111:role/auditor\"}],"
+      + "\"delegations\":[]}]}").getBytes(StandardCharsets.UTF_8);
+  private static final byte[] EMPTY_RESPONSE = "{}".getBytes(StandardCharsets.UTF_8);
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final AtomicLong requests = new AtomicLong();
+
+  public StubAuditManagerEndpoint() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", this::handle);
+    executor = Executors.newCachedThreadPool(runnable -> {
+      final Thread thread = new Thread(runnable, "stub-audit-manager");
+      thread.setDaemon(true);
+      return thread;
+    });
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  public URI getEndpoint() {
+    return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+  }
+
+  public long getRequests() {
+    return requests.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(final HttpExchange exchange) throws IOException {
+    requests.incrementAndGet();
+    try (InputStream body = exchange.getRequestBody()) {
+      final byte[] buffer = new byte[4096];
+      while (body.read(buffer) != -1) {
+        // the request is not inspected beyond its method and path
+      }
+    }
+    final byte[] response = response(exchange.getRequestMethod(), exchange.getRequestURI().getPath());
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, response.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(response);
+    }
+  }
+
+  private static byte[] response(final String method, final String path) {
+    if (path.startsWith("/tags/") || "DELETE".equals(method)) {
+      // TagResource, UntagResource, DeleteAssessment
+      return EMPTY_RESPONSE;
+    }
+    if ("GET".equals(method) && "/assessments".equals(path)) {
+      return LIST_RESPONSE;
+    }
+    // GetAssessment, CreateAssessment, UpdateAssessment, UpdateAssessmentStatus
+    return ASSESSMENT_RESPONSE;
+  }
+}
@@ -0,0 +1,50 @@
+package software.amazon.auditmanager.assessment;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the Utils timestamp converters with the Date based implementation they replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimestampBenchmark {
+
+  private final Instant instant = Instant.ofEpochMilli(1607990400123L);
+  private final Double epochSeconds = 1607990400.123d;
+
+  @Benchmark
+  public Double translateInstantToDouble() {
+    return Utils.translateInstantToDouble(instant);
+  }
+
+  @Benchmark
+  public Double translateInstantToDouble_date() {
+    final Date outputDate = Date.from(instant);
+    return Double.valueOf(outputDate.getTime() / 1000);
+  }
+
+  @Benchmark
+  public Instant translateDoubleToInstant() {
+    return Utils.translateDoubleToInstant(epochSeconds);
+  }
+
+  @Benchmark
+  public Instant translateDoubleToInstant_date() {
+    return new Date((long) (epochSeconds * 1000L)).toInstant();
+  }
+}
@@ -0,0 +1,100 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.auditmanager.model.Assessment;
+import software.amazon.awssdk.services.auditmanager.model.CreateAssessmentRequest;
+import software.amazon.awssdk.services.auditmanager.model.Delegation;
+import software.amazon.awssdk.services.auditmanager.model.ListAssessmentsResponse;
+import software.amazon.awssdk.services.auditmanager.model.Role;
+
+/**
+ * Throughput of the CFN <-> SDK translation layer for models of different sizes.
+ * Run with the GC profiler (as the benchmark profile does) to also get the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslationBenchmark {
+
+  // One ListAssessments page at the maximum page size
+  private static final int LIST_PAGE_SIZE = 100;
+
+  @Param({"1", "100"})
+  public int accounts;
+
+  @Param({"0", "100"})
+  public int delegations;
+
+  @Param({"2", "20"})
+  public int roles;
+
+  @Param({"0", "50"})
+  public int tags;
+
+  private Assessment assessment;
+  private ResourceModel resourceModel;
+  private ListAssessmentsResponse listAssessmentsResponse;
+
+  @Setup
+  public void setup() {
+    assessment = BenchmarkFixtures.makeAssessment(accounts, delegations, roles, tags);
+    resourceModel = Utils.transformToAssessmentResourceModel(ResourceModel.builder().build(), assessment);
+    listAssessmentsResponse = BenchmarkFixtures.makeListAssessmentsResponse(LIST_PAGE_SIZE, delegations, roles);
+  }
+
+  @Benchmark
+  public ResourceModel transformToAssessmentResourceModel() {
+    return Utils.transformToAssessmentResourceModel(resourceModel, assessment);
+  }
+
+  @Benchmark
+  public CreateAssessmentRequest transformToCreateAssessmentRequest() {
+    return Utils.transformToCreateAssessmentRequest(resourceModel);
+  }
+
+  @Benchmark
+  public List<ResourceModel> transformToListAssessmentsResponse() {
+    return Utils.transformToListAssessmentsResponse(listAssessmentsResponse);
+  }
+
+  @Benchmark
+  public List<ResourceModel> transformToAssessmentIdentifiers() {
+    return Utils.transformToAssessmentIdentifiers(listAssessmentsResponse);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.auditmanager.model.Scope cfnScopeToSdkScope() {
+    return AssessmentMetadataUtils.cfnScopeToSdkScope(resourceModel.getScope());
+  }
+
+  @Benchmark
+  public List<Role> cfnRoleToSdkRoles() {
+    return AssessmentMetadataUtils.cfnRoleToSdkRoles(resourceModel.getRoles());
+  }
+
+  @Benchmark
+  public List<Delegation> cfnDelegationToSdkDelegation() {
+    return AssessmentMetadataUtils.cfnDelegationToSdkDelegation(resourceModel.getDelegations());
+  }
+
+  @Benchmark
+  public Map<String, String> cfnTagsToSdkTags() {
+    return Utils.cfnTagsToSdkTags(resourceModel.getTags());
+  }
+}
@@ -0,0 +1,357 @@
+package software.amazon.auditmanager.assessment;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.auditmanager.AuditManagerAsyncClient;
+import software.amazon.awssdk.services.auditmanager.model.CreateAssessmentRequest;
+import software.amazon.awssdk.services.auditmanager.model.InternalServerException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Single path through which the handlers call Audit Manager.
+ *
+ * Every call first takes a token from the rate limit of its account and region, shared by the
+ * handlers of a warm container. A call that cannot get a token within the maximum wait is not
+ * sent and fails with {@link RequestDeferredException}.
+ *
+ * Calls then pass the circuit breaker of their region. While it is open, calls fail at once with
+ * {@link CfnServiceInternalErrorException} instead of waiting out the SDK retries against an
+ * endpoint that keeps failing.
+ *
+ * With an invocation time budget, each call gets SDK timeouts that fit the time left. A call for
+ * which too little time is left, or that times out, fails with {@link RequestDeferredException}
+ * so the handler can hand it to a later invocation. CreateAssessment is not idempotent, its
+ * timeouts are reported as they are.
+ *
+ * The latency and outcome of every call, and the calls rejected before being sent, are recorded in
+ * {@link ApiMetrics}. Each call is traced as a span of its operation, with the credential injection by
+ * the proxy and the SDK call as child spans.
+ *
+ * The rate limit, the circuit breaker and the time budget are disabled unless configured.
+ */
+public class ApiInvoker {
+
+  protected static final String CIRCUIT_OPEN_MESSAGE =
+      "%s not sent: Audit Manager in %s is failing, calls are suspended for another %d ms";
+  protected static final int DEADLINE_RETRY_DELAY_SECONDS = 1;
+  protected static final String SPAN_PREFIX = "AuditManager.";
+  protected static final String INJECT_CREDENTIALS_SPAN = "InjectCredentials";
+  protected static final String SDK_CALL_SPAN = "SdkCall";
+  private static final String RATE_LIMITED = "waiting for the client-side rate limit";
+
+  private static final ConcurrentMap<String, TokenBucket> RATE_LIMITS = new ConcurrentHashMap<>();
+  private static final ConcurrentMap<String, CircuitBreaker> CIRCUIT_BREAKERS = new ConcurrentHashMap<>();
+  private static volatile HandlerSettings settings = HandlerSettings.fromEnvironment();
+
+  private final AmazonWebServicesClientProxy proxy;
+  private final String region;
+  private final String accountRegionKey;
+  private final TimeBudget budget;
+
+  /**
+   * @param proxy the proxy injecting the caller's credentials
+   * @param awsAccountId the account the calls are made for
+   * @param region the region the calls are sent to
+   */
+  public ApiInvoker(final AmazonWebServicesClientProxy proxy, final String awsAccountId, final String region) {
+    this.proxy = proxy;
+    this.region = region;
+    this.accountRegionKey = awsAccountId + "|" + region;
+    final long budgetMillis = settings.getInvocationTimeBudgetMillis();
+    this.budget = budgetMillis > 0 ? TimeBudget.startingNow(budgetMillis) : null;
+  }
+
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT invoke(
+      final RequestT request,
+      final Function<RequestT, ResponseT> call) {
+    final Span span = Tracer.start(spanName(request));
+    try {
+      acquirePermit(request, true);
+      final Duration callTimeout = callTimeout(request);
+      final CircuitBreaker breaker = acquireCircuitBreaker(request);
+      final long startNanos = System.nanoTime();
+      final Span injection = Tracer.start(INJECT_CREDENTIALS_SPAN);
+      try {
+        final ResponseT response =
+            proxy.injectCredentialsAndInvokeV2(request, traced(withTimeouts(call, callTimeout), injection));
+        recordOutcome(request, breaker, startNanos, null);
+        return response;
+      } catch (RuntimeException e) {
+        recordOutcome(request, breaker, startNanos, e);
+        throw deferOnTimeout(request, e);
+      } catch (Error e) {
+        recordOutcome(request, breaker, startNanos, e);
+        throw e;
+      } finally {
+        injection.end();
+      }
+    } catch (RuntimeException | Error e) {
+      span.recordFailure(e);
+      throw e;
+    } finally {
+      span.end();
+    }
+  }
+
+  /**
+   * Asynchronous variant of {@link #invoke}, waiting for the rate limit happens before the call is started.
+   */
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> invokeAsync(
+      final ProxyClient<AuditManagerAsyncClient> asyncProxyClient,
+      final RequestT request,
+      final Function<RequestT, CompletableFuture<ResponseT>> call) {
+    return invokeAsync(asyncProxyClient, request, call, true);
+  }
+
+  /**
+   * @param waitForPermit false to reject the call with a {@link RequestDeferredException} rather than wait
+   *                      when the rate limit has no permit left, for callers on threads that must not block
+   */
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> invokeAsync(
+      final ProxyClient<AuditManagerAsyncClient> asyncProxyClient,
+      final RequestT request,
+      final Function<RequestT, CompletableFuture<ResponseT>> call,
+      final boolean waitForPermit) {
+    final Span span = Tracer.startDetached(spanName(request), null);
+    try {
+      acquirePermit(request, waitForPermit);
+      final Duration callTimeout = callTimeout(request);
+      final CircuitBreaker breaker = acquireCircuitBreaker(request);
+      final long startNanos = System.nanoTime();
+      final Span injection = Tracer.startDetached(INJECT_CREDENTIALS_SPAN, span);
+      final CompletableFuture<ResponseT> response;
+      try {
+        response = asyncProxyClient.injectCredentialsAndInvokeV2Async(request,
+            tracedAsync(withTimeouts(call, callTimeout), injection, span));
+      } catch (RuntimeException e) {
+        recordOutcome(request, breaker, startNanos, e);
+        throw deferOnTimeout(request, e);
+      } finally {
+        injection.end();
+      }
+      final CompletableFuture<ResponseT> outcome = new CompletableFuture<>();
+      response.whenComplete((result, failure) -> {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ?
+            failure.getCause() : failure;
+        recordOutcome(request, breaker, startNanos, cause);
+        if (cause != null) {
+          span.recordFailure(cause);
+        }
+        span.end();
+        if (cause == null) {
+          outcome.complete(result);
+        } else {
+          outcome.completeExceptionally(cause instanceof RuntimeException ?
+              deferOnTimeout(request, (RuntimeException) cause) : cause);
+        }
+      });
+      return outcome;
+    } catch (RuntimeException e) {
+      span.recordFailure(e);
+      span.end();
+      throw e;
+    }
+  }
+
+  /**
+   * Sets the SDK timeouts of the request, keeping the override configuration it already carries. This has to
+   * happen inside the function called by the proxy, which replaces the override configuration to inject the
+   * caller's credentials.
+   */
+  @SuppressWarnings("unchecked")
+  static <RequestT extends AwsRequest> RequestT withTimeout(final RequestT request, final Duration callTimeout) {
+    final AwsRequestOverrideConfiguration overrideConfiguration = request.overrideConfiguration()
+        .map(AwsRequestOverrideConfiguration::toBuilder)
+        .orElseGet(AwsRequestOverrideConfiguration::builder)
+        .apiCallTimeout(callTimeout)
+        .apiCallAttemptTimeout(attemptTimeout(callTimeout))
+        .build();
+    return (RequestT) request.toBuilder().overrideConfiguration(overrideConfiguration).build();
+  }
+
+  /**
+   * @return the circuit breaker of the region, or null if circuit breaking is disabled
+   */
+  static CircuitBreaker circuitBreaker(final String region) {
+    return CIRCUIT_BREAKERS.get(String.valueOf(region));
+  }
+
+  /**
+   * Replaces the settings and drops the rate limits and circuit breakers built from the previous ones.
+   */
+  static void configure(final HandlerSettings handlerSettings) {
+    settings = handlerSettings;
+    RATE_LIMITS.clear();
+    CIRCUIT_BREAKERS.clear();
+  }
+
+  /**
+   * @return the time the call may take, or null without an invocation time budget
+   */
+  private Duration callTimeout(final AwsRequest request) {
+    if (budget == null) return null;
+    final long remainingMillis = budget.remainingMillis();
+    if (remainingMillis < settings.getMinimumCallTimeMillis()) {
+      throw rejected(request, new RequestDeferredException(operationName(request),
+          "too little invocation time left", DEADLINE_RETRY_DELAY_SECONDS));
+    }
+    return Duration.ofMillis(remainingMillis);
+  }
+
+  /**
+   * Leaves room for a retry when the call has time for two attempts of the minimum call time.
+   */
+  private static Duration attemptTimeout(final Duration callTimeout) {
+    return Duration.ofMillis(Math.max(settings.getMinimumCallTimeMillis(), callTimeout.toMillis() / 2));
+  }
+
+  private static <RequestT extends AwsRequest, ResultT> Function<RequestT, ResultT> withTimeouts(
+      final Function<RequestT, ResultT> call,
+      final Duration callTimeout) {
+    if (callTimeout == null) return call;
+    return request -> call.apply(withTimeout(request, callTimeout));
+  }
+
+  /**
+   * Ends the credential injection span once the proxy hands the request over, and traces the SDK call.
+   */
+  private static <RequestT, ResultT> Function<RequestT, ResultT> traced(
+      final Function<RequestT, ResultT> call,
+      final Span injection) {
+    return request -> {
+      injection.end();
+      return Tracer.trace(SDK_CALL_SPAN, () -> call.apply(request));
+    };
+  }
+
+  private static <RequestT, ResultT> Function<RequestT, CompletableFuture<ResultT>> tracedAsync(
+      final Function<RequestT, CompletableFuture<ResultT>> call,
+      final Span injection,
+      final Span parent) {
+    return request -> {
+      injection.end();
+      final Span sdkCall = Tracer.startDetached(SDK_CALL_SPAN, parent);
+      try {
+        final CompletableFuture<ResultT> response = call.apply(request);
+        response.whenComplete((result, failure) -> {
+          if (failure != null) {
+            sdkCall.recordFailure(failure);
+          }
+          sdkCall.end();
+        });
+        return response;
+      } catch (RuntimeException e) {
+        sdkCall.recordFailure(e);
+        sdkCall.end();
+        throw e;
+      }
+    };
+  }
+
+  private static String spanName(final AwsRequest request) {
+    return SPAN_PREFIX + operationName(request);
+  }
+
+  private RuntimeException deferOnTimeout(final AwsRequest request, final RuntimeException e) {
+    if (budget != null
+        && (e instanceof ApiCallTimeoutException || e instanceof ApiCallAttemptTimeoutException)
+        && !(request instanceof CreateAssessmentRequest)) {
+      return new RequestDeferredException(operationName(request), "timed out within the invocation time budget",
+          DEADLINE_RETRY_DELAY_SECONDS, e);
+    }
+    return e;
+  }
+
+  private CircuitBreaker acquireCircuitBreaker(final AwsRequest request) {
+    final HandlerSettings current = settings;
+    if (current.getCircuitBreakerFailureRatePercent() <= 0) return null;
+    final CircuitBreaker breaker = CIRCUIT_BREAKERS.computeIfAbsent(String.valueOf(region),
+        key -> new CircuitBreaker(current.getCircuitBreakerFailureRatePercent(),
+            current.getCircuitBreakerWindowSize(),
+            Math.min(current.getCircuitBreakerMinimumCalls(), current.getCircuitBreakerWindowSize()),
+            current.getCircuitBreakerOpenMillis(),
+            System::nanoTime,
+            (from, to) -> ApiMetrics.incrementForRegion(key, ApiMetrics.circuitBreakerTransition(from, to))));
+    if (!breaker.tryAcquirePermission()) {
+      throw rejected(request, new CfnServiceInternalErrorException(String.format(CIRCUIT_OPEN_MESSAGE,
+          operationName(request), region, breaker.remainingOpenMillis())));
+    }
+    return breaker;
+  }
+
+  private static void recordOutcome(final AwsRequest request, final CircuitBreaker breaker, final long startNanos,
+                                    final Throwable failure) {
+    ApiMetrics.recordCall(operationName(request), System.nanoTime() - startNanos, failure);
+    if (breaker == null) return;
+    if (isEndpointFailure(failure)) {
+      breaker.onFailure();
+    } else {
+      breaker.onSuccess();
+    }
+  }
+
+  private static RuntimeException rejected(final AwsRequest request, final RuntimeException e) {
+    ApiMetrics.recordRejection(operationName(request), e);
+    return e;
+  }
+
+  /**
+   * Server errors and calls that got no answer count against the endpoint, errors caused by the
+   * request (validation, not found, access denied, throttling) do not.
+   */
+  static boolean isEndpointFailure(final Throwable failure) {
+    if (failure instanceof AwsServiceException) {
+      final AwsServiceException serviceException = (AwsServiceException) failure;
+      return !serviceException.isThrottlingException()
+          && (serviceException instanceof InternalServerException || serviceException.statusCode() >= 500);
+    }
+    return failure instanceof SdkClientException;
+  }
+
+  private void acquirePermit(final AwsRequest request, final boolean mayWait) {
+    final HandlerSettings current = settings;
+    if (current.getRateLimitPerSecond() <= 0) return;
+    final TokenBucket bucket = RATE_LIMITS.computeIfAbsent(accountRegionKey,
+        key -> new TokenBucket(current.getRateLimitPerSecond(), current.getRateLimitBurst()));
+    final long maxWaitMillis = mayWait ? current.getRateLimitMaxWaitMillis() : 0L;
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    long waitNanos;
+    while ((waitNanos = bucket.tryAcquire()) > 0) {
+      if (System.nanoTime() + waitNanos > deadline) {
+        throw rejected(request,
+            new RequestDeferredException(operationName(request), RATE_LIMITED, toDelaySeconds(waitNanos)));
+      }
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw rejected(request,
+            new RequestDeferredException(operationName(request), RATE_LIMITED, toDelaySeconds(waitNanos)));
+      }
+    }
+  }
+
+  static String operationName(final AwsRequest request) {
+    final String name = request.getClass().getSimpleName();
+    return name.endsWith("Request") ? name.substring(0, name.length() - "Request".length()) : name;
+  }
+
+  private static int toDelaySeconds(final long waitNanos) {
+    return (int) Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+  }
+}
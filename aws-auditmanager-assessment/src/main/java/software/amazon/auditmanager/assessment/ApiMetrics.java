@@ -0,0 +1,227 @@
+package software.amazon.auditmanager.assessment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Metrics of the Audit Manager calls made by the handlers of a warm container, published at the end of
+ * each invocation as CloudWatch embedded metric format log lines.
+ *
+ * For each operation and outcome, the outcome being Success or the {@link ExceptionTranslator#errorCodeFor
+ * error code} of the failure, the latencies of the calls and their count are published under the
+ * Operation and the Operation, Outcome dimensions. Calls rejected before being sent, by the rate limit,
+ * the circuit breaker or the time budget, are counted without a latency. SDK retries, hedges and the
+ * lookups of the assessment caches are counted per operation. Circuit breaker transitions are counted
+ * per region, under the Region dimension. Publishing is disabled unless a namespace is configured.
+ */
+final class ApiMetrics {
+
+  protected static final String SUCCESS = "Success";
+  protected static final String OPERATION_DIMENSION = "Operation";
+  protected static final String OUTCOME_DIMENSION = "Outcome";
+  protected static final String REGION_DIMENSION = "Region";
+  protected static final String LATENCY = "Latency";
+  protected static final String CALLS = "Calls";
+  protected static final String RETRIES = "Retries";
+  protected static final String HEDGES = "Hedges";
+  protected static final String CACHE_HITS = "CacheHits";
+  protected static final String CACHE_MISSES = "CacheMisses";
+  protected static final String NOT_FOUND_CACHE_HITS = "NotFoundCacheHits";
+  protected static final String NOT_FOUND_CACHE_MISSES = "NotFoundCacheMisses";
+  protected static final String CIRCUIT_BREAKER_PREFIX = "CircuitBreaker";
+  /* CloudWatch takes at most 100 values per metric in a single document */
+  private static final int MAX_VALUES_PER_DOCUMENT = 100;
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static final ConcurrentMap<String, OperationMetrics> OPERATIONS = new ConcurrentHashMap<>();
+  private static final ConcurrentMap<String, Map<String, Long>> REGIONS = new ConcurrentHashMap<>();
+  private static volatile String namespace;
+
+  static {
+    configure(HandlerSettings.fromEnvironment());
+  }
+
+  private ApiMetrics() {
+  }
+
+  static boolean isEnabled() {
+    return namespace != null;
+  }
+
+  /**
+   * Records a call that was sent, with its failure or null if it succeeded.
+   */
+  static void recordCall(final String operation, final long latencyNanos, final Throwable failure) {
+    if (!isEnabled()) return;
+    OPERATIONS.compute(operation, (key, metrics) -> (metrics == null ? new OperationMetrics() : metrics)
+        .call(outcome(failure), TimeUnit.NANOSECONDS.toMicros(latencyNanos) / 1000d));
+  }
+
+  /**
+   * Records a call that failed before being sent.
+   */
+  static void recordRejection(final String operation, final Throwable failure) {
+    if (!isEnabled()) return;
+    OPERATIONS.compute(operation, (key, metrics) -> (metrics == null ? new OperationMetrics() : metrics)
+        .call(outcome(failure), -1d));
+  }
+
+  /**
+   * Adds one to a counter of the operation, such as {@link #RETRIES} or {@link #HEDGES}.
+   */
+  static void increment(final String operation, final String counter) {
+    if (!isEnabled() || operation == null) return;
+    OPERATIONS.compute(operation, (key, metrics) -> (metrics == null ? new OperationMetrics() : metrics)
+        .increment(counter));
+  }
+
+  /**
+   * Adds one to a counter of the region, such as a {@link #circuitBreakerTransition circuit breaker transition}.
+   */
+  static void incrementForRegion(final String region, final String counter) {
+    if (!isEnabled() || region == null) return;
+    REGIONS.compute(region, (key, counters) -> {
+      final Map<String, Long> regionCounters = counters == null ? new TreeMap<>() : counters;
+      regionCounters.merge(counter, 1L, Long::sum);
+      return regionCounters;
+    });
+  }
+
+  /**
+   * @return the name of the counter of a circuit breaker transition, CircuitBreakerClosedToOpen for instance
+   */
+  static String circuitBreakerTransition(final CircuitBreaker.State from, final CircuitBreaker.State to) {
+    return CIRCUIT_BREAKER_PREFIX + from.getDisplayName() + "To" + to.getDisplayName();
+  }
+
+  /**
+   * Logs the metrics recorded since the previous publication and starts over.
+   */
+  static void publish(final Logger logger) {
+    final String currentNamespace = namespace;
+    if (currentNamespace == null) return;
+    for (final String operation : new ArrayList<>(OPERATIONS.keySet())) {
+      final OperationMetrics metrics = OPERATIONS.remove(operation);
+      if (metrics == null) continue;
+      for (final Map<String, Object> document : metrics.toDocuments(currentNamespace, operation)) {
+        log(logger, operation, document);
+      }
+    }
+    for (final String region : new ArrayList<>(REGIONS.keySet())) {
+      final Map<String, Long> counters = REGIONS.remove(region);
+      if (counters == null) continue;
+      log(logger, region, document(currentNamespace, REGION_DIMENSION, region, null, new LinkedHashMap<>(counters)));
+    }
+  }
+
+  /**
+   * Replaces the namespace and drops the metrics recorded so far.
+   */
+  static void configure(final HandlerSettings settings) {
+    final String configured = settings.getMetricsNamespace();
+    namespace = configured == null || configured.isEmpty() ? null : configured;
+    OPERATIONS.clear();
+    REGIONS.clear();
+  }
+
+  private static void log(final Logger logger, final String source, final Map<String, Object> document) {
+    try {
+      logger.log(MAPPER.writeValueAsString(document));
+    } catch (JsonProcessingException e) {
+      logger.log(String.format("Could not publish metrics of %s: %s", source, e.getMessage()));
+    }
+  }
+
+  private static String outcome(final Throwable failure) {
+    return failure == null ? SUCCESS : ExceptionTranslator.errorCodeFor(failure).name();
+  }
+
+  /**
+   * Guarded by the map entry it is held in.
+   */
+  private static final class OperationMetrics {
+
+    private final Map<String, List<Double>> latencies = new TreeMap<>();
+    private final Map<String, Long> calls = new TreeMap<>();
+    private final Map<String, Long> counters = new TreeMap<>();
+
+    private OperationMetrics call(final String outcome, final double latencyMillis) {
+      calls.merge(outcome, 1L, Long::sum);
+      if (latencyMillis >= 0) {
+        latencies.computeIfAbsent(outcome, key -> new ArrayList<>()).add(latencyMillis);
+      }
+      return this;
+    }
+
+    private OperationMetrics increment(final String counter) {
+      counters.merge(counter, 1L, Long::sum);
+      return this;
+    }
+
+    private List<Map<String, Object>> toDocuments(final String namespace, final String operation) {
+      final List<Map<String, Object>> documents = new ArrayList<>();
+      for (final Map.Entry<String, Long> outcome : calls.entrySet()) {
+        final List<Double> values = latencies.getOrDefault(outcome.getKey(), Collections.emptyList());
+        int from = 0;
+        do {
+          final List<Double> chunk = values.subList(from, Math.min(values.size(), from + MAX_VALUES_PER_DOCUMENT));
+          final Map<String, Object> metrics = new LinkedHashMap<>();
+          if (!chunk.isEmpty()) {
+            metrics.put(LATENCY, chunk);
+          }
+          // the count goes with the first document only
+          if (from == 0) {
+            metrics.put(CALLS, outcome.getValue());
+          }
+          documents.add(document(namespace, OPERATION_DIMENSION, operation, outcome.getKey(), metrics));
+          from += MAX_VALUES_PER_DOCUMENT;
+        } while (from < values.size());
+      }
+      if (!counters.isEmpty()) {
+        documents.add(document(namespace, OPERATION_DIMENSION, operation, null, new LinkedHashMap<>(counters)));
+      }
+      return documents;
+    }
+  }
+
+  private static Map<String, Object> document(final String namespace, final String dimension, final String value,
+                                              final String outcome, final Map<String, Object> metrics) {
+    final List<Map<String, String>> definitions = new ArrayList<>();
+    for (final String name : metrics.keySet()) {
+      final Map<String, String> definition = new LinkedHashMap<>();
+      definition.put("Name", name);
+      definition.put("Unit", LATENCY.equals(name) ? "Milliseconds" : "Count");
+      definitions.add(definition);
+    }
+    final List<List<String>> dimensions = outcome == null ?
+        Collections.singletonList(Collections.singletonList(dimension)) :
+        Arrays.asList(Collections.singletonList(dimension), Arrays.asList(dimension, OUTCOME_DIMENSION));
+    final Map<String, Object> directive = new LinkedHashMap<>();
+    directive.put("Namespace", namespace);
+    directive.put("Dimensions", dimensions);
+    directive.put("Metrics", definitions);
+    final Map<String, Object> aws = new LinkedHashMap<>();
+    aws.put("Timestamp", System.currentTimeMillis());
+    aws.put("CloudWatchMetrics", Collections.singletonList(directive));
+
+    final Map<String, Object> document = new LinkedHashMap<>();
+    document.put("_aws", aws);
+    document.put(dimension, value);
+    if (outcome != null) {
+      document.put(OUTCOME_DIMENSION, outcome);
+    }
+    document.putAll(metrics);
+    return document;
+  }
+}
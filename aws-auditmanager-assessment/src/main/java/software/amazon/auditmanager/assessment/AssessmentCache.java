@@ -0,0 +1,108 @@
+package software.amazon.auditmanager.assessment;
+
+import software.amazon.awssdk.services.auditmanager.model.Assessment;
+
+/**
+ * In-process caches shared by the handlers of a warm container, keyed by {@link BaseHandlerStd#assessmentKey}:
+ * GetAssessment results, and assessments the service reported as not found. Handlers consult them before
+ * calling the service and writers invalidate the assessments they change. Each cache is disabled unless
+ * its TTL is configured. Lookups are counted in {@link ApiMetrics}, under the operation the cache saves.
+ */
+final class AssessmentCache {
+
+  private static final String GET_ASSESSMENT = "GetAssessment";
+
+  private static volatile TtlCache<String, Assessment> assessments;
+  private static volatile TtlCache<String, Boolean> missing;
+
+  static {
+    configure(HandlerSettings.fromEnvironment());
+  }
+
+  private AssessmentCache() {
+  }
+
+  /**
+   * @return the cached assessment, or null if it is not cached or caching is disabled
+   */
+  static Assessment get(final String key) {
+    final TtlCache<String, Assessment> cache = assessments;
+    if (cache == null) return null;
+    final Assessment assessment = cache.get(key);
+    ApiMetrics.increment(GET_ASSESSMENT, assessment != null ? ApiMetrics.CACHE_HITS : ApiMetrics.CACHE_MISSES);
+    return assessment;
+  }
+
+  static void put(final String key, final Assessment assessment) {
+    final TtlCache<String, Assessment> cache = assessments;
+    if (cache != null && assessment != null) {
+      cache.put(key, assessment);
+    }
+  }
+
+  /**
+   * @param operation the call the answer saves, for the hit and miss counters
+   * @return true if the service recently reported the assessment as not found
+   */
+  static boolean isMissing(final String key, final String operation) {
+    final TtlCache<String, Boolean> cache = missing;
+    if (cache == null) return false;
+    final boolean isMissing = cache.get(key) != null;
+    ApiMetrics.increment(operation, isMissing ? ApiMetrics.NOT_FOUND_CACHE_HITS : ApiMetrics.NOT_FOUND_CACHE_MISSES);
+    return isMissing;
+  }
+
+  /**
+   * Records that the assessment does not exist (any more), replacing a cached result.
+   */
+  static void markMissing(final String key) {
+    final TtlCache<String, Assessment> cache = assessments;
+    if (cache != null) {
+      cache.invalidate(key);
+    }
+    final TtlCache<String, Boolean> missingCache = missing;
+    if (missingCache != null) {
+      missingCache.put(key, Boolean.TRUE);
+    }
+  }
+
+  /**
+   * Forgets everything known about the assessment.
+   */
+  static void invalidate(final String key) {
+    final TtlCache<String, Assessment> cache = assessments;
+    if (cache != null) {
+      cache.invalidate(key);
+    }
+    final TtlCache<String, Boolean> missingCache = missing;
+    if (missingCache != null) {
+      missingCache.invalidate(key);
+    }
+  }
+
+  /**
+   * @return the underlying cache for its hit and miss counters, or null if caching is disabled
+   */
+  static TtlCache<String, Assessment> assessments() {
+    return assessments;
+  }
+
+  /**
+   * @return the underlying not found cache for its hit and miss counters, or null if it is disabled
+   */
+  static TtlCache<String, Boolean> missing() {
+    return missing;
+  }
+
+  /**
+   * Replaces the caches with empty ones built from the settings.
+   */
+  static void configure(final HandlerSettings settings) {
+    assessments = build(settings.getReadCacheTtlMillis(), settings.getReadCacheMaxEntries());
+    missing = build(settings.getNotFoundCacheTtlMillis(), settings.getNotFoundCacheMaxEntries());
+  }
+
+  private static <V> TtlCache<String, V> build(final long ttlMillis, final int maxEntries) {
+    return ttlMillis > 0 ? new TtlCache<>(ttlMillis, maxEntries) : null;
+  }
+}
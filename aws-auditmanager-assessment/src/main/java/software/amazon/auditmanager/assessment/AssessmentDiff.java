@@ -0,0 +1,128 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import software.amazon.awssdk.services.auditmanager.model.UpdateAssessmentRequest;
+
+/**
+ * Field by field comparison of the previous and desired resource models of an update request.
+ * A missing previous model is treated as every field having changed.
+ */
+public class AssessmentDiff {
+
+  private final ResourceModel previousModel;
+  private final ResourceModel currentModel;
+
+  public AssessmentDiff(final ResourceModel previousModel, final ResourceModel currentModel) {
+    this.previousModel = previousModel;
+    this.currentModel = currentModel;
+  }
+
+  public boolean isNameChanged() {
+    return isChanged(ResourceModel::getName);
+  }
+
+  public boolean isDescriptionChanged() {
+    return isChanged(ResourceModel::getDescription);
+  }
+
+  public boolean isScopeChanged() {
+    return isChanged(ResourceModel::getScope);
+  }
+
+  public boolean isRolesChanged() {
+    return isChanged(ResourceModel::getRoles);
+  }
+
+  public boolean isAssessmentReportsDestinationChanged() {
+    return isChanged(ResourceModel::getAssessmentReportsDestination);
+  }
+
+  /**
+   * @return true if any attribute sent through UpdateAssessment differs between the two models
+   */
+  public boolean hasMetadataChanges() {
+    return isNameChanged()
+        || isDescriptionChanged()
+        || isScopeChanged()
+        || isRolesChanged()
+        || isAssessmentReportsDestinationChanged();
+  }
+
+  /**
+   * Builds an UpdateAssessment request carrying only the changed attributes.
+   * The scope is required by the API, so it is always sent.
+   *
+   * @return the request, or null if no attribute updatable through UpdateAssessment changed
+   */
+  public UpdateAssessmentRequest toUpdateAssessmentRequest() {
+    if (!hasMetadataChanges()) return null;
+    final UpdateAssessmentRequest.Builder builder = UpdateAssessmentRequest.builder()
+        .assessmentId(currentModel.getAssessmentId())
+        .scope(AssessmentMetadataUtils.cfnScopeToSdkScope(currentModel.getScope()));
+    if (isNameChanged()) {
+      builder.assessmentName(currentModel.getName());
+    }
+    if (isDescriptionChanged()) {
+      builder.assessmentDescription(currentModel.getDescription());
+    }
+    if (isRolesChanged()) {
+      builder.roles(AssessmentMetadataUtils.cfnRoleToSdkRoles(currentModel.getRoles()));
+    }
+    if (isAssessmentReportsDestinationChanged()) {
+      builder.assessmentReportsDestination(
+          AssessmentMetadataUtils.cfnAssessmentReportsDestinationToSdkAssessmentReportsDestination(
+              currentModel.getAssessmentReportsDestination()));
+    }
+    return builder.build();
+  }
+
+  /**
+   * @return the tags that are new or carry a different value in the desired model
+   */
+  public Map<String, String> getTagsToAdd() {
+    final Map<String, String> previousTags = tagsOf(previousModel);
+    final Map<String, String> tagsToAdd = new HashMap<>();
+    for (final Map.Entry<String, String> tag : tagsOf(currentModel).entrySet()) {
+      if (!Objects.equals(previousTags.get(tag.getKey()), tag.getValue())
+          || !previousTags.containsKey(tag.getKey())) {
+        tagsToAdd.put(tag.getKey(), tag.getValue());
+      }
+    }
+    return tagsToAdd;
+  }
+
+  /**
+   * @return the keys of the tags that are no longer present in the desired model
+   */
+  public List<String> getTagKeysToRemove() {
+    final Map<String, String> currentTags = tagsOf(currentModel);
+    final List<String> tagKeysToRemove = new ArrayList<>();
+    for (final String key : tagsOf(previousModel).keySet()) {
+      if (!currentTags.containsKey(key)) {
+        tagKeysToRemove.add(key);
+      }
+    }
+    return tagKeysToRemove;
+  }
+
+  public boolean hasTagChanges() {
+    return !getTagsToAdd().isEmpty() || !getTagKeysToRemove().isEmpty();
+  }
+
+  private static Map<String, String> tagsOf(final ResourceModel model) {
+    final Map<String, String> tags = model == null ? null : Utils.cfnTagsToSdkTags(model.getTags());
+    return tags == null ? Collections.emptyMap() : tags;
+  }
+
+  private boolean isChanged(final Function<ResourceModel, Object> property) {
+    return previousModel == null
+        || !Objects.equals(property.apply(previousModel), property.apply(currentModel));
+  }
+}
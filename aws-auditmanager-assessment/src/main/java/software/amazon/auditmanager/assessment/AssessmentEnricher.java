@@ -0,0 +1,113 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Replaces listed resource models by the full models read for each of them, with at most
+ * a fixed number of reads in flight. A model whose read fails or does not complete within
+ * the time budget is kept as listed and reported in the result.
+ */
+public class AssessmentEnricher {
+
+  private static final String NOT_READ_IN_TIME = "not read within the time budget";
+
+  private final int concurrency;
+
+  public AssessmentEnricher(final int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("concurrency must be at least 1, got " + concurrency);
+    }
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * @param listedModels models returned by ListAssessments, in the order they should be returned
+   * @param reader starts the read of the full model of an assessment identifier
+   * @param budget time left for the reads
+   * @return the enriched models in the order of listedModels, with the identifiers that could not be read
+   */
+  public Result enrich(final List<ResourceModel> listedModels,
+                       final Function<String, CompletableFuture<ResourceModel>> reader,
+                       final TimeBudget budget) {
+    final List<CompletableFuture<ResourceModel>> reads = new ArrayList<>(listedModels.size());
+    final Semaphore inFlight = new Semaphore(concurrency);
+    for (final ResourceModel listedModel : listedModels) {
+      reads.add(startRead(listedModel.getAssessmentId(), reader, inFlight, budget));
+    }
+
+    final List<ResourceModel> models = new ArrayList<>(listedModels.size());
+    final List<String> failures = new ArrayList<>();
+    for (int i = 0; i < listedModels.size(); i++) {
+      final ResourceModel listedModel = listedModels.get(i);
+      try {
+        final ResourceModel readModel = reads.get(i).get(budget.remainingMillis(), TimeUnit.MILLISECONDS);
+        models.add(readModel != null ? readModel : listedModel);
+      } catch (ExecutionException e) {
+        models.add(listedModel);
+        failures.add(String.format("%s (%s)", listedModel.getAssessmentId(), e.getCause().getMessage()));
+      } catch (TimeoutException e) {
+        reads.get(i).cancel(true);
+        models.add(listedModel);
+        failures.add(String.format("%s (%s)", listedModel.getAssessmentId(), NOT_READ_IN_TIME));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        models.add(listedModel);
+        failures.add(String.format("%s (interrupted)", listedModel.getAssessmentId()));
+      }
+    }
+    return new Result(models, failures);
+  }
+
+  /**
+   * Waits for a free slot before starting the read, the slot is given back once the read completes.
+   */
+  private static CompletableFuture<ResourceModel> startRead(
+      final String assessmentId,
+      final Function<String, CompletableFuture<ResourceModel>> reader,
+      final Semaphore inFlight,
+      final TimeBudget budget) {
+    final CompletableFuture<ResourceModel> read = new CompletableFuture<>();
+    try {
+      if (!inFlight.tryAcquire(budget.remainingMillis(), TimeUnit.MILLISECONDS)) {
+        read.completeExceptionally(new TimeoutException(NOT_READ_IN_TIME));
+        return read;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      read.completeExceptionally(e);
+      return read;
+    }
+    try {
+      reader.apply(assessmentId).whenComplete((model, failure) -> {
+        inFlight.release();
+        if (failure != null) {
+          read.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null ?
+              failure.getCause() : failure);
+        } else {
+          read.complete(model);
+        }
+      });
+    } catch (RuntimeException e) {
+      inFlight.release();
+      read.completeExceptionally(e);
+    }
+    return read;
+  }
+
+  @lombok.Getter
+  @lombok.AllArgsConstructor
+  public static class Result {
+    // Enriched models, in the order of the listed models
+    private final List<ResourceModel> models;
+    // "<assessmentId> (<reason>)" for every model that could not be enriched
+    private final List<String> failures;
+  }
+}
@@ -2,9 +2,8 @@ package software.amazon.auditmanager.assessment;
 
 import static software.amazon.auditmanager.assessment.Utils.*;
 
-import java.util.Date;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import software.amazon.awssdk.services.auditmanager.model.AssessmentMetadata;
 import software.amazon.awssdk.services.auditmanager.model.AssessmentFramework;
@@ -21,9 +20,11 @@ public class AssessmentMetadataUtils {
 
   public static List<Role> cfnRoleToSdkRoles(final List<software.amazon.auditmanager.assessment.Role> cfnRoles) {
     if (cfnRoles == null) return null;
-    return cfnRoles.stream()
-        .map(role -> Role.builder().roleArn(role.getRoleArn()).roleType(role.getRoleType()).build())
-        .collect(Collectors.toList());
+    final List<Role> roles = new ArrayList<>(cfnRoles.size());
+    for (final software.amazon.auditmanager.assessment.Role role : cfnRoles) {
+      roles.add(Role.builder().roleArn(role.getRoleArn()).roleType(role.getRoleType()).build());
+    }
+    return roles;
   }
 
   public static Scope cfnScopeToSdkScope(software.amazon.auditmanager.assessment.Scope cfnScope) {
@@ -46,59 +47,70 @@ public class AssessmentMetadataUtils {
   private static List<AWSAccount> cfnServicesToSdkAccount(
       final List<software.amazon.auditmanager.assessment.AWSAccount> cfnAWSAccounts) {
     if (cfnAWSAccounts == null) return null;
-    return cfnAWSAccounts.stream()
-        .map(account -> AWSAccount.builder()
-            .name(account.getName())
-            .emailAddress(account.getEmailAddress())
-            .id(account.getId()).build())
-        .collect(Collectors.toList());
+    final List<AWSAccount> accounts = new ArrayList<>(cfnAWSAccounts.size());
+    for (final software.amazon.auditmanager.assessment.AWSAccount account : cfnAWSAccounts) {
+      accounts.add(AWSAccount.builder()
+          .name(account.getName())
+          .emailAddress(account.getEmailAddress())
+          .id(account.getId()).build());
+    }
+    return accounts;
   }
 
   public static List<Delegation> cfnDelegationToSdkDelegation(
       final List<software.amazon.auditmanager.assessment.Delegation> cfnDelegations) {
     if (cfnDelegations == null || cfnDelegations.isEmpty()) return null;
-    return cfnDelegations.stream().map(cfnDelegation -> Delegation.builder()
-        .id(cfnDelegation.getId())
-        .assessmentName(cfnDelegation.getAssessmentName())
-        .createdBy(cfnDelegation.getCreatedBy())
-        .assessmentId(cfnDelegation.getAssessmentId())
-        .status(cfnDelegation.getStatus())
-        .roleType(cfnDelegation.getRoleType())
-        .roleArn(cfnDelegation.getRoleArn())
-        .creationTime(translateDoubleToInstant(cfnDelegation.getCreationTime()))
-        .lastUpdated(translateDoubleToInstant(cfnDelegation.getLastUpdated()))
-        .controlSetId(cfnDelegation.getControlSetId())
-        .comment(cfnDelegation.getComment())
-        .build())
-        .collect(Collectors.toList());
+    final List<Delegation> delegations = new ArrayList<>(cfnDelegations.size());
+    for (final software.amazon.auditmanager.assessment.Delegation cfnDelegation : cfnDelegations) {
+      delegations.add(Delegation.builder()
+          .id(cfnDelegation.getId())
+          .assessmentName(cfnDelegation.getAssessmentName())
+          .createdBy(cfnDelegation.getCreatedBy())
+          .assessmentId(cfnDelegation.getAssessmentId())
+          .status(cfnDelegation.getStatus())
+          .roleType(cfnDelegation.getRoleType())
+          .roleArn(cfnDelegation.getRoleArn())
+          .creationTime(translateDoubleToInstant(cfnDelegation.getCreationTime()))
+          .lastUpdated(translateDoubleToInstant(cfnDelegation.getLastUpdated()))
+          .controlSetId(cfnDelegation.getControlSetId())
+          .comment(cfnDelegation.getComment())
+          .build());
+    }
+    return delegations;
   }
 
   private static List<AWSService> cfnServicesToSdkServices(
       final List<software.amazon.auditmanager.assessment.AWSService> cfnAWSServices) {
     if (cfnAWSServices == null) return null;
-    return cfnAWSServices.stream()
-        .map(service -> AWSService.builder().serviceName(service.getServiceName()).build())
-        .collect(Collectors.toList());
+    final List<AWSService> services = new ArrayList<>(cfnAWSServices.size());
+    for (final software.amazon.auditmanager.assessment.AWSService service : cfnAWSServices) {
+      services.add(AWSService.builder().serviceName(service.getServiceName()).build());
+    }
+    return services;
   }
 
   /************************** AssessmentMetadata to CFN AssessmentMetadata **************************/
   public static List<software.amazon.auditmanager.assessment.Delegation> transformToCfnDelegations(
       final List<Delegation> delegations) {
     if (delegations == null || delegations.isEmpty()) return null;
-    return delegations.stream().map(delegation -> software.amazon.auditmanager.assessment.Delegation.builder()
-        .id(delegation.id())
-        .assessmentName(delegation.assessmentName())
-        .createdBy(delegation.createdBy())
-        .assessmentId(delegation.assessmentId())
-        .status(delegation.statusAsString())
-        .roleType(delegation.roleTypeAsString())
-        .roleArn(delegation.roleArn())
-        .creationTime(translateInstantToDouble(delegation.creationTime()))
-        .lastUpdated(translateInstantToDouble(delegation.lastUpdated()))
-        .controlSetId(delegation.controlSetId())
-        .comment(delegation.comment())
-        .build())
-        .collect(Collectors.toList());
+    final List<software.amazon.auditmanager.assessment.Delegation> cfnDelegations =
+        new ArrayList<>(delegations.size());
+    for (final Delegation delegation : delegations) {
+      cfnDelegations.add(software.amazon.auditmanager.assessment.Delegation.builder()
+          .id(delegation.id())
+          .assessmentName(delegation.assessmentName())
+          .createdBy(delegation.createdBy())
+          .assessmentId(delegation.assessmentId())
+          .status(delegation.statusAsString())
+          .roleType(delegation.roleTypeAsString())
+          .roleArn(delegation.roleArn())
+          .creationTime(translateInstantToDouble(delegation.creationTime()))
+          .lastUpdated(translateInstantToDouble(delegation.lastUpdated()))
+          .controlSetId(delegation.controlSetId())
+          .comment(delegation.comment())
+          .build());
+    }
+    return cfnDelegations;
   }
 
   public static software.amazon.auditmanager.assessment.AWSAccount transformToCfnAWSAccount(
@@ -114,10 +126,14 @@ public class AssessmentMetadataUtils {
   public static List<software.amazon.auditmanager.assessment.Role> transformToCfnRoles(
       final List<Role> roles) {
     if (roles == null) return null;
-    return roles.stream().map(role -> software.amazon.auditmanager.assessment.Role.builder()
-        .roleType(role.roleTypeAsString())
-        .roleArn(role.roleArn())
-        .build()).collect(Collectors.toList());
+    final List<software.amazon.auditmanager.assessment.Role> cfnRoles = new ArrayList<>(roles.size());
+    for (final Role role : roles) {
+      cfnRoles.add(software.amazon.auditmanager.assessment.Role.builder()
+          .roleType(role.roleTypeAsString())
+          .roleArn(role.roleArn())
+          .build());
+    }
+    return cfnRoles;
   }
 
   public static software.amazon.auditmanager.assessment.AssessmentReportsDestination transformToCfnAssessmentReportsDestination(
@@ -140,19 +156,23 @@ public class AssessmentMetadataUtils {
   private static List<software.amazon.auditmanager.assessment.AWSService> transformToCfnServices(
       final List<AWSService> awsServices) {
     if (awsServices == null) return null;
-    return awsServices.stream()
-        .map(service -> software.amazon.auditmanager.assessment.AWSService.builder()
-            .serviceName(service.serviceName()).build())
-        .collect(Collectors.toList());
+    final List<software.amazon.auditmanager.assessment.AWSService> cfnServices =
+        new ArrayList<>(awsServices.size());
+    for (final AWSService service : awsServices) {
+      cfnServices.add(software.amazon.auditmanager.assessment.AWSService.builder()
+          .serviceName(service.serviceName()).build());
+    }
+    return cfnServices;
   }
 
   private static List<software.amazon.auditmanager.assessment.AWSAccount> transformToCfnAccounts(
       final List<AWSAccount> awsAccounts) {
     if (awsAccounts == null) return null;
-    return awsAccounts.stream()
-        .map(account -> {
-          return (software.amazon.auditmanager.assessment.AWSAccount)transformToCfnAWSAccount(account);
-        })
-        .collect(Collectors.toList());
+    final List<software.amazon.auditmanager.assessment.AWSAccount> cfnAccounts =
+        new ArrayList<>(awsAccounts.size());
+    for (final AWSAccount account : awsAccounts) {
+      cfnAccounts.add(transformToCfnAWSAccount(account));
+    }
+    return cfnAccounts;
   }
 }
@@ -1,5 +1,6 @@
 package software.amazon.auditmanager.assessment;
 
+import software.amazon.awssdk.services.auditmanager.AuditManagerAsyncClient;
 import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -17,15 +18,54 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       final ResourceHandlerRequest<ResourceModel> request,
       final CallbackContext callbackContext,
       final Logger logger) {
-    return handleRequest(
-        proxy,
-        request,
-        callbackContext != null ? callbackContext : new CallbackContext(),
-        proxy.newProxy(() -> {return (request.getRegion() != null) ?
-            ClientBuilder.getClient(request.getRegion()) :
-            ClientBuilder.getClient();}),
-        logger
-    );
+    final Span span = Tracer.start(getClass().getSimpleName()).setAttribute("region", request.getRegion());
+    try {
+      return handleRequest(
+          proxy,
+          request,
+          callbackContext != null ? callbackContext : new CallbackContext(),
+          proxy.newProxy(() -> {return (request.getRegion() != null) ?
+              ClientBuilder.getClient(request.getRegion()) :
+              ClientBuilder.getClient();}),
+          logger
+      );
+    } catch (RuntimeException e) {
+      span.recordFailure(e);
+      throw e;
+    } finally {
+      span.end();
+      ApiMetrics.publish(logger);
+    }
+  }
+
+  /**
+   * Proxy client over the async SDK client, for handlers that overlap independent calls.
+   * Calls made through it must go through ApiInvoker#invokeAsync.
+   */
+  protected ProxyClient<AuditManagerAsyncClient> asyncProxyClient(
+      final AmazonWebServicesClientProxy proxy,
+      final ResourceHandlerRequest<ResourceModel> request) {
+    return proxy.newProxy(() -> (request.getRegion() != null) ?
+        ClientBuilder.getAsyncClient(request.getRegion()) :
+        ClientBuilder.getAsyncClient());
+  }
+
+  /**
+   * Invoker for the Audit Manager calls of the request, all calls of the handlers go through it.
+   */
+  protected static ApiInvoker apiInvoker(
+      final AmazonWebServicesClientProxy proxy,
+      final ResourceHandlerRequest<ResourceModel> request) {
+    return new ApiInvoker(proxy, request.getAwsAccountId(), request.getRegion());
+  }
+
+  /**
+   * Identifies an assessment across the accounts and regions served by the same JVM.
+   */
+  protected static String assessmentKey(
+      final ResourceHandlerRequest<ResourceModel> request,
+      final String assessmentId) {
+    return request.getAwsAccountId() + "|" + request.getRegion() + "|" + assessmentId;
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -7,4 +7,14 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+  // Identifier of the assessment created by the first CreateHandler invocation
+  private String assessmentId;
+  // Number of GetAssessment checks made while waiting for the new assessment to become readable
+  private int stabilizationAttempts;
+  // Number of throttled calls handed back to CloudFormation for a delayed retry
+  private int throttlingRetries;
+  // Set once UpdateHandler has applied the metadata changes, so a resumed update skips UpdateAssessment
+  private boolean metadataUpdated;
+  // Set once UpdateHandler has applied the tag changes, so a resumed update skips the tagging calls
+  private boolean tagsUpdated;
 }
@@ -0,0 +1,173 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe circuit breaker over the outcomes of the most recent calls to an endpoint.
+ *
+ * While CLOSED, calls are let through and their outcomes recorded in a window of fixed size.
+ * Once the window holds enough calls and the share of failures reaches the threshold, the breaker
+ * turns OPEN and rejects calls. After the open duration it turns HALF_OPEN and lets a single probe
+ * call through: a success closes the breaker with an empty window, a failure opens it again.
+ * Transitions are counted, and passed to a listener so they can be reported.
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED("Closed"),
+    OPEN("Open"),
+    HALF_OPEN("HalfOpen");
+
+    private final String displayName;
+
+    State(final String displayName) {
+      this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+      return displayName;
+    }
+  }
+
+  private final int failureRatePercent;
+  private final int minimumCalls;
+  private final long openNanos;
+  private final LongSupplier nanoClock;
+  private final BiConsumer<State, State> transitionListener;
+  private final boolean[] window;
+  private final long[][] transitions = new long[State.values().length][State.values().length];
+
+  private State state = State.CLOSED;
+  private int recordedCalls;
+  private int nextSlot;
+  private int failures;
+  private long openedAtNanos;
+  private boolean probeInFlight;
+
+  public CircuitBreaker(final int failureRatePercent, final int windowSize, final int minimumCalls,
+                        final long openMillis) {
+    this(failureRatePercent, windowSize, minimumCalls, openMillis, System::nanoTime);
+  }
+
+  public CircuitBreaker(final int failureRatePercent, final int windowSize, final int minimumCalls,
+                        final long openMillis, final LongSupplier nanoClock) {
+    this(failureRatePercent, windowSize, minimumCalls, openMillis, nanoClock, (from, to) -> { });
+  }
+
+  /**
+   * @param transitionListener called with the previous and the new state of every transition, while the
+   *                           breaker's lock is held
+   */
+  public CircuitBreaker(final int failureRatePercent, final int windowSize, final int minimumCalls,
+                        final long openMillis, final LongSupplier nanoClock,
+                        final BiConsumer<State, State> transitionListener) {
+    if (failureRatePercent < 1 || failureRatePercent > 100) {
+      throw new IllegalArgumentException("failureRatePercent must be between 1 and 100");
+    }
+    if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+      throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize");
+    }
+    this.failureRatePercent = failureRatePercent;
+    this.minimumCalls = minimumCalls;
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    this.nanoClock = nanoClock;
+    this.transitionListener = transitionListener;
+    this.window = new boolean[windowSize];
+  }
+
+  /**
+   * @return true if the call may be made, in which case its outcome must be recorded
+   */
+  public synchronized boolean tryAcquirePermission() {
+    switch (state) {
+      case OPEN:
+        if (nanoClock.getAsLong() - openedAtNanos < openNanos) {
+          return false;
+        }
+        transitionTo(State.HALF_OPEN);
+        probeInFlight = true;
+        return true;
+      case HALF_OPEN:
+        if (probeInFlight) {
+          return false;
+        }
+        probeInFlight = true;
+        return true;
+      case CLOSED:
+      default:
+        return true;
+    }
+  }
+
+  /**
+   * Records a call that reached the endpoint and got an answer, including error answers caused by the request.
+   */
+  public synchronized void onSuccess() {
+    if (state == State.HALF_OPEN) {
+      transitionTo(State.CLOSED);
+    } else if (state == State.CLOSED) {
+      record(false);
+    }
+  }
+
+  /**
+   * Records a call that failed because of the endpoint: a server error or no answer at all.
+   */
+  public synchronized void onFailure() {
+    if (state == State.HALF_OPEN) {
+      transitionTo(State.OPEN);
+    } else if (state == State.CLOSED) {
+      record(true);
+      if (recordedCalls >= minimumCalls && failures * 100L >= (long) failureRatePercent * recordedCalls) {
+        transitionTo(State.OPEN);
+      }
+    }
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  /**
+   * @return the time left before an open breaker lets a probe through, 0 if it is not open
+   */
+  public synchronized long remainingOpenMillis() {
+    if (state != State.OPEN) return 0L;
+    return TimeUnit.NANOSECONDS.toMillis(Math.max(0L, openNanos - (nanoClock.getAsLong() - openedAtNanos)));
+  }
+
+  /**
+   * @return the number of times the breaker went from one state to the other
+   */
+  public synchronized long getTransitions(final State from, final State to) {
+    return transitions[from.ordinal()][to.ordinal()];
+  }
+
+  private void record(final boolean failure) {
+    if (recordedCalls == window.length) {
+      if (window[nextSlot]) failures--;
+    } else {
+      recordedCalls++;
+    }
+    window[nextSlot] = failure;
+    if (failure) failures++;
+    nextSlot = (nextSlot + 1) % window.length;
+  }
+
+  private void transitionTo(final State newState) {
+    transitions[state.ordinal()][newState.ordinal()]++;
+    final State previousState = state;
+    state = newState;
+    probeInFlight = false;
+    if (newState == State.OPEN) {
+      openedAtNanos = nanoClock.getAsLong();
+    } else if (newState == State.CLOSED) {
+      recordedCalls = 0;
+      nextSlot = 0;
+      failures = 0;
+    }
+    transitionListener.accept(previousState, newState);
+  }
+}
@@ -1,19 +1,145 @@
 package software.amazon.auditmanager.assessment;
 
+import software.amazon.awssdk.services.auditmanager.AuditManagerAsyncClient;
+import software.amazon.awssdk.services.auditmanager.AuditManagerAsyncClientBuilder;
 import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
+import software.amazon.awssdk.services.auditmanager.AuditManagerClientBuilder;
 import java.net.URI;
+import java.time.Duration;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.cloudformation.LambdaWrapper;
 import software.amazon.awssdk.regions.Region;
 
 public class ClientBuilder {
-    public static AuditManagerClient getClient() {
-        return AuditManagerClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT).build();
+
+    /* Far more than the number of regions Audit Manager is available in, the bound only guards
+     * against unbounded growth if callers pass unexpected region names.
+     */
+    protected static final int MAX_CACHED_CLIENTS = 32;
+    protected static final String DEFAULT_REGION_KEY = "default";
+
+    private static final ClientCache<AuditManagerClient> CLIENTS =
+        new ClientCache<>(ClientBuilder::buildClient, MAX_CACHED_CLIENTS);
+    private static final ClientCache<AuditManagerAsyncClient> ASYNC_CLIENTS =
+        new ClientCache<>(ClientBuilder::buildAsyncClient, MAX_CACHED_CLIENTS);
+
+    /* The pool is sized by the settings, the other values suit a function that may be frozen between
+     * invocations: no reaper thread, and idle connections dropped before the service side closes them.
+     */
+    private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration CONNECTION_MAX_IDLE_TIME = Duration.ofSeconds(50);
+
+    private static volatile URI endpointOverride;
+    private static volatile HttpClientType httpClientType = HandlerSettings.DEFAULT_HTTP_CLIENT;
+    private static volatile int httpMaxConnections = HandlerSettings.DEFAULT_HTTP_MAX_CONNECTIONS;
+    /* HTTP client built for the selected type, shared by the synchronous clients of every region. Clients are
+     * built, and dropped along with it, under the class lock, so that no client is cached on a closed one.
+     */
+    private static SdkHttpClient ownedHttpClient;
+
+    static {
+        configure(HandlerSettings.fromEnvironment());
+    }
+
+    /**
+     * Applies the endpoint and HTTP client of the settings. Cached clients are closed, so that every
+     * client built from then on uses them.
+     */
+    static synchronized void configure(final HandlerSettings settings) {
+        final String endpoint = settings.getAuditManagerEndpoint();
+        endpointOverride = endpoint.isEmpty() ? null : URI.create(endpoint);
+        httpClientType = settings.getHttpClient();
+        httpMaxConnections = settings.getHttpMaxConnections();
+        closeClients();
+    }
+
+    public static synchronized AuditManagerClient getClient() {
+        return CLIENTS.get(DEFAULT_REGION_KEY);
+    }
+
+    public static synchronized AuditManagerClient getClient(final String region) {
+        return CLIENTS.get(region);
+    }
+
+    /**
+     * Async clients are only built when a handler overlaps independent calls, they use the SDK's
+     * default async HTTP client since the wrapper's HTTP client is synchronous.
+     */
+    public static synchronized AuditManagerAsyncClient getAsyncClient() {
+        return ASYNC_CLIENTS.get(DEFAULT_REGION_KEY);
+    }
+
+    public static synchronized AuditManagerAsyncClient getAsyncClient(final String region) {
+        return ASYNC_CLIENTS.get(region);
+    }
+
+    /**
+     * Closes and drops every cached client, and the HTTP client built for them if any, the next call to
+     * getClient or getAsyncClient builds fresh ones.
+     */
+    public static synchronized void closeClients() {
+        CLIENTS.invalidateAll();
+        ASYNC_CLIENTS.invalidateAll();
+        if (ownedHttpClient != null) {
+            ownedHttpClient.close();
+            ownedHttpClient = null;
+        }
+    }
+
+    private static AuditManagerClient buildClient(final String region) {
+        final AuditManagerClientBuilder builder = AuditManagerClient.builder()
+            .httpClient(httpClient())
+            .overrideConfiguration(overrideConfiguration());
+        if (!DEFAULT_REGION_KEY.equals(region)) {
+            builder.region(Region.of(region));
+        }
+        if (endpointOverride != null) {
+            builder.endpointOverride(endpointOverride);
+        }
+        return builder.build();
+    }
+
+    private static AuditManagerAsyncClient buildAsyncClient(final String region) {
+        final AuditManagerAsyncClientBuilder builder = AuditManagerAsyncClient.builder()
+            .overrideConfiguration(overrideConfiguration());
+        if (!DEFAULT_REGION_KEY.equals(region)) {
+            builder.region(Region.of(region));
+        }
+        if (endpointOverride != null) {
+            builder.endpointOverride(endpointOverride);
+        }
+        return builder.build();
+    }
+
+    // called with the class lock held, by buildClient
+    private static SdkHttpClient httpClient() {
+        if (httpClientType == HttpClientType.LAMBDA_WRAPPER) {
+            return LambdaWrapper.HTTP_CLIENT;
+        }
+        if (ownedHttpClient == null) {
+            ownedHttpClient = httpClientType == HttpClientType.URL_CONNECTION ?
+                UrlConnectionHttpClient.builder()
+                    .connectionTimeout(CONNECTION_TIMEOUT)
+                    .build() :
+                ApacheHttpClient.builder()
+                    .maxConnections(httpMaxConnections)
+                    .connectionTimeout(CONNECTION_TIMEOUT)
+                    .connectionMaxIdleTime(CONNECTION_MAX_IDLE_TIME)
+                    .useIdleConnectionReaper(false)
+                    .build();
+        }
+        return ownedHttpClient;
     }
 
-    public static AuditManagerClient getClient(final String region) {
-        return AuditManagerClient
-            .builder()
-            .region(Region.of(region))
+    /**
+     * Counts the SDK retries of every call for the published metrics.
+     */
+    private static ClientOverrideConfiguration overrideConfiguration() {
+        return ClientOverrideConfiguration.builder()
+            .addExecutionInterceptor(new RetryCountingInterceptor())
             .build();
     }
 }
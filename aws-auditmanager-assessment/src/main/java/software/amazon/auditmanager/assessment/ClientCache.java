@@ -0,0 +1,83 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Bounded, thread-safe cache of SDK clients keyed by region.
+ *
+ * Clients are built at most once per key and reused across warm invocations so their
+ * endpoint resolution and HTTP connections survive between handler calls. When the bound
+ * is reached, the least recently used client is evicted without being closed, since other threads
+ * may still be calling through it; it is reclaimed once no longer referenced.
+ *
+ * @param <T> the client type
+ */
+public class ClientCache<T extends SdkAutoCloseable> {
+
+  private final Function<String, T> clientFactory;
+  private final LinkedHashMap<String, T> clients;
+
+  public ClientCache(final Function<String, T> clientFactory, final int maxClients) {
+    if (maxClients < 1) {
+      throw new IllegalArgumentException("maxClients must be positive");
+    }
+    this.clientFactory = clientFactory;
+    this.clients = new LinkedHashMap<String, T>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, T> eldest) {
+        return size() > maxClients;
+      }
+    };
+  }
+
+  /**
+   * Returns the client cached for the key, building it on first use.
+   *
+   * @param key the cache key, usually the region name
+   * @return the cached client
+   */
+  public synchronized T get(final String key) {
+    T client = clients.get(key);
+    if (client == null) {
+      client = clientFactory.apply(key);
+      clients.put(key, client);
+    }
+    return client;
+  }
+
+  /**
+   * Removes and closes the client cached for the key, if any.
+   *
+   * @param key the cache key
+   */
+  public synchronized void invalidate(final String key) {
+    closeQuietly(clients.remove(key));
+  }
+
+  /**
+   * Removes and closes every cached client, for when no call is in flight, e.g. before a checkpoint.
+   */
+  public synchronized void invalidateAll() {
+    clients.values().forEach(ClientCache::closeQuietly);
+    clients.clear();
+  }
+
+  public synchronized int size() {
+    return clients.size();
+  }
+
+  private static void closeQuietly(final SdkAutoCloseable client) {
+    if (client == null) return;
+    try {
+      client.close();
+    } catch (final RuntimeException e) {
+      // a client that fails to close is unusable anyway, it is dropped from the cache regardless
+    }
+  }
+}
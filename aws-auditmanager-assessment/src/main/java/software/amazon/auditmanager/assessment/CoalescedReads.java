@@ -0,0 +1,100 @@
+package software.amazon.auditmanager.assessment;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentRequest;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentResponse;
+
+/**
+ * GetAssessment calls of Read that overlap, e.g. during drift detection, share one call when they are for the
+ * same assessment and made with the same credentials, shared by the handlers of a warm container. Calls are
+ * keyed on the request the proxy injected the caller's credentials into, so that a caller is never answered
+ * with data read with other credentials. Coalescing is disabled unless configured.
+ */
+final class CoalescedReads {
+
+  private static final int CREDENTIALS_HASH_LENGTH = 16;
+
+  /* the timeouts of a call are set from the invocation time budget of the caller that runs it */
+  private static final SingleFlight<String, GetAssessmentResponse> GET_ASSESSMENT_CALLS =
+      new SingleFlight<>(failure -> !(failure instanceof RequestDeferredException
+          || failure instanceof ApiCallTimeoutException
+          || failure instanceof ApiCallAttemptTimeoutException));
+
+  private static volatile boolean enabled;
+
+  static {
+    configure(HandlerSettings.fromEnvironment());
+  }
+
+  private CoalescedReads() {
+  }
+
+  /**
+   * Makes the call, or joins an equivalent one in flight.
+   *
+   * @param assessmentKey the key of the assessment read
+   * @param request the request carrying the caller's credentials
+   * @param call the GetAssessment call
+   */
+  static GetAssessmentResponse getAssessment(
+      final String assessmentKey,
+      final GetAssessmentRequest request,
+      final Function<GetAssessmentRequest, GetAssessmentResponse> call) {
+    final String key = callKey(assessmentKey, request);
+    return key == null ? call.apply(request) : GET_ASSESSMENT_CALLS.execute(key, () -> call.apply(request));
+  }
+
+  /**
+   * Asynchronous variant of {@link #getAssessment}.
+   */
+  static CompletableFuture<GetAssessmentResponse> getAssessmentAsync(
+      final String assessmentKey,
+      final GetAssessmentRequest request,
+      final Function<GetAssessmentRequest, CompletableFuture<GetAssessmentResponse>> call) {
+    final String key = callKey(assessmentKey, request);
+    return key == null ? call.apply(request) : GET_ASSESSMENT_CALLS.executeAsync(key, () -> call.apply(request));
+  }
+
+  static SingleFlight<String, GetAssessmentResponse> getAssessmentCalls() {
+    return GET_ASSESSMENT_CALLS;
+  }
+
+  static void configure(final HandlerSettings settings) {
+    enabled = settings.isCoalescedReadsEnabled();
+  }
+
+  /**
+   * @return the key of the call, or null if it is not to be coalesced
+   */
+  private static String callKey(final String assessmentKey, final GetAssessmentRequest request) {
+    if (!enabled) return null;
+    final String accessKeyId = request.overrideConfiguration()
+        .flatMap(AwsRequestOverrideConfiguration::credentialsProvider)
+        .map(provider -> provider.resolveCredentials().accessKeyId())
+        .orElse(null);
+    return accessKeyId == null ? null : assessmentKey + "|" + hash(accessKeyId);
+  }
+
+  /**
+   * Keeps the access key ids out of the keys held in memory.
+   */
+  private static String hash(final String value) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+      final StringBuilder hex = new StringBuilder(CREDENTIALS_HASH_LENGTH);
+      for (int i = 0; i < CREDENTIALS_HASH_LENGTH / 2; i++) {
+        hex.append(String.format("%02x", digest[i]));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -4,5 +4,7 @@ class Configuration extends BaseConfiguration {
 
     public Configuration() {
         super("aws-auditmanager-assessment.json");
+        // the generated HandlerWrapper builds its configuration once, while the function initializes
+        Priming.onInit(HandlerSettings.fromEnvironment());
     }
 }
@@ -15,12 +15,20 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.awssdk.services.auditmanager.model.Assessment;
 import software.amazon.awssdk.services.auditmanager.model.CreateAssessmentRequest;
 import software.amazon.awssdk.services.auditmanager.model.CreateAssessmentResponse;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentRequest;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentResponse;
+import software.amazon.awssdk.services.auditmanager.model.ResourceNotFoundException;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 
 public class CreateHandler extends BaseHandlerStd {
 
+  protected static final int CALLBACK_DELAY_SECONDS = 5;
+  protected static final int MAX_STABILIZATION_ATTEMPTS = 24;
+  protected static final String NOT_STABILIZED_MESSAGE = "Assessment [%s] was not readable after %d attempts";
+
   @Override
   public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
       final AmazonWebServicesClientProxy proxy,
@@ -30,23 +38,80 @@ public class CreateHandler extends BaseHandlerStd {
       final Logger logger) {
 
     final ResourceModel model = request.getDesiredResourceState();
+    final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
 
-    if (hasReadOnlyProperties(model)) {
-      throw new CfnInvalidRequestException("Attempting to set a ReadOnly Property.");
+    /* The first invocation creates the assessment and hands control back to CloudFormation,
+     * later invocations only check that the new assessment can be read.
+     */
+    if (context.getAssessmentId() == null) {
+      final ProgressEvent<ResourceModel, CallbackContext> progress =
+          createAssessment(model, context, apiInvoker(proxy, request), proxyClient);
+      if (context.getAssessmentId() != null) {
+        AssessmentCache.invalidate(assessmentKey(request, context.getAssessmentId()));
+      }
+      return progress;
     }
+    return stabilizeAssessment(model, context, apiInvoker(proxy, request), proxyClient);
+  }
+
+  private ProgressEvent<ResourceModel, CallbackContext> createAssessment(
+      final ResourceModel model,
+      final CallbackContext context,
+      final ApiInvoker invoker,
+      final ProxyClient<AuditManagerClient> proxyClient) {
+    Tracer.run(Tracer.VALIDATE_SPAN, () -> {
+      if (hasReadOnlyProperties(model)) {
+        throw new CfnInvalidRequestException("Attempting to set a ReadOnly Property.");
+      }
+    });
 
-    CreateAssessmentRequest createAssessmentRequest = Utils.transformToCreateAssessmentRequest(model);
+    final CreateAssessmentRequest createAssessmentRequest =
+        Tracer.trace(Tracer.TRANSLATE_SPAN, () -> Utils.transformToCreateAssessmentRequest(model));
     CreateAssessmentResponse createAssessmentResponse = null;
 
     try {
-      createAssessmentResponse = proxy.injectCredentialsAndInvokeV2(createAssessmentRequest,
-          proxyClient.client()::createAssessment);
+      createAssessmentResponse = invoker.invoke(createAssessmentRequest, proxyClient.client()::createAssessment);
+    } catch (RequestDeferredException e) {
+      return ProgressEvent.defaultInProgressHandler(context, e.getDelaySeconds(), model);
+    } catch (AwsServiceException e) {
+      return ExceptionTranslator.translateToCfnException(e, createAssessmentRequest.name(), model, context);
+    }
+
+    final Assessment createdAssessment = createAssessmentResponse.assessment();
+    final ResourceModel createdModel = Tracer.trace(Tracer.MAP_RESPONSE_SPAN, () ->
+        Utils.transformToAssessmentResourceModel(model, createdAssessment));
+    context.setAssessmentId(createdModel.getAssessmentId());
+    return ProgressEvent.defaultInProgressHandler(context, CALLBACK_DELAY_SECONDS, createdModel);
+  }
+
+  private ProgressEvent<ResourceModel, CallbackContext> stabilizeAssessment(
+      final ResourceModel model,
+      final CallbackContext context,
+      final ApiInvoker invoker,
+      final ProxyClient<AuditManagerClient> proxyClient) {
+    final GetAssessmentRequest getAssessmentRequest = GetAssessmentRequest.builder()
+        .assessmentId(context.getAssessmentId()).build();
+    context.setStabilizationAttempts(context.getStabilizationAttempts() + 1);
+
+    GetAssessmentResponse getAssessmentResponse = null;
+    try {
+      getAssessmentResponse = invoker.invoke(getAssessmentRequest, proxyClient.client()::getAssessment);
+    } catch (RequestDeferredException e) {
+      return ProgressEvent.defaultInProgressHandler(context, e.getDelaySeconds(), model);
+    } catch (ResourceNotFoundException e) {
+      if (context.getStabilizationAttempts() >= MAX_STABILIZATION_ATTEMPTS) {
+        return ProgressEvent.failed(model, context, HandlerErrorCode.NotStabilized,
+            String.format(NOT_STABILIZED_MESSAGE, context.getAssessmentId(), context.getStabilizationAttempts()));
+      }
+      return ProgressEvent.defaultInProgressHandler(context, CALLBACK_DELAY_SECONDS, model);
     } catch (AwsServiceException e) {
-      return ExceptionTranslator.translateToCfnException(e, createAssessmentRequest.name());
+      return ExceptionTranslator.translateToCfnException(e, context.getAssessmentId(), model, context);
     }
 
+    final Assessment assessment = getAssessmentResponse.assessment();
     return ProgressEvent.<ResourceModel, CallbackContext>builder()
-        .resourceModel(Utils.transformToAssessmentResourceModel(model, createAssessmentResponse.assessment()))
+        .resourceModel(Tracer.trace(Tracer.MAP_RESPONSE_SPAN, () ->
+            Utils.transformToAssessmentResourceModel(model, assessment)))
         .status(OperationStatus.SUCCESS)
         .build();
   }
@@ -4,6 +4,7 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -30,19 +31,32 @@ public class DeleteHandler extends BaseHandlerStd {
     this.logger = logger;
 
     final ResourceModel model = request.getDesiredResourceState();
-    return deleteAssessmentAndUpdateProgress(model, callbackContext, proxy, proxyClient);
+    final String key = assessmentKey(request, model.getAssessmentId());
+    final DeleteAssessmentRequest deleteAssessmentRequest =
+        DeleteAssessmentRequest.builder().assessmentId(model.getAssessmentId()).build();
+    if (AssessmentCache.isMissing(key, ApiInvoker.operationName(deleteAssessmentRequest))) {
+      throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getAssessmentId());
+    }
+    return deleteAssessmentAndUpdateProgress(model, key, deleteAssessmentRequest,
+        callbackContext != null ? callbackContext : new CallbackContext(), apiInvoker(proxy, request), proxyClient);
   }
 
   private ProgressEvent<ResourceModel, CallbackContext> deleteAssessmentAndUpdateProgress
-      (final ResourceModel model, final CallbackContext callbackContext, final AmazonWebServicesClientProxy proxy,
+      (final ResourceModel model, final String key, final DeleteAssessmentRequest deleteAssessmentRequest,
+       final CallbackContext callbackContext, final ApiInvoker invoker,
        final ProxyClient<AuditManagerClient> proxyClient) {
-    final DeleteAssessmentRequest deleteAssessmentRequest =
-        DeleteAssessmentRequest.builder().assessmentId(model.getAssessmentId()).build();
+    AssessmentCache.invalidate(key);
     try {
-      proxy.injectCredentialsAndInvokeV2(deleteAssessmentRequest, proxyClient.client()::deleteAssessment);;
+      invoker.invoke(deleteAssessmentRequest, proxyClient.client()::deleteAssessment);
+    } catch (RequestDeferredException e) {
+      return ProgressEvent.defaultInProgressHandler(callbackContext, e.getDelaySeconds(), model);
     } catch (AwsServiceException e) {
-      return ExceptionTranslator.translateToCfnException(e, model.getAssessmentId());
+      if (e instanceof ResourceNotFoundException) {
+        AssessmentCache.markMissing(key);
+      }
+      return ExceptionTranslator.translateToCfnException(e, model.getAssessmentId(), model, callbackContext);
     }
+    AssessmentCache.markMissing(key);
     return ProgressEvent.defaultSuccessHandler(null);
   }
 }
@@ -5,22 +5,29 @@ import software.amazon.awssdk.services.auditmanager.model.AccessDeniedException;
 import software.amazon.awssdk.services.auditmanager.model.AuditManagerException;
 import software.amazon.awssdk.services.auditmanager.model.InternalServerException;
 import software.amazon.awssdk.services.auditmanager.model.ValidationException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
   import software.amazon.cloudformation.proxy.ProgressEvent.ProgressEventBuilder;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 public class ExceptionTranslator {
 
   private ExceptionTranslator() {}
 
   protected static final String AUDIT_MANAGER_NOT_ENABLED_MESSAGE =
     "Please complete AWS Audit Manager setup from home page to enable this action in this account";
+  protected static final int MAX_THROTTLING_RETRIES = 6;
+  protected static final int BASE_THROTTLING_DELAY_SECONDS = 2;
+  protected static final int MAX_THROTTLING_DELAY_SECONDS = 60;
 
   public static ProgressEvent<ResourceModel, CallbackContext>  translateToCfnException(
       final AwsServiceException exception,
@@ -29,23 +36,97 @@ public class ExceptionTranslator {
         ProgressEvent.<ResourceModel, CallbackContext>builder()
             .status(OperationStatus.FAILED);
 
+    switch (errorCodeFor(exception)) {
+      case AccessDenied:
+        builder.errorCode(HandlerErrorCode.AccessDenied);
+        if (exception.getMessage().contains(AUDIT_MANAGER_NOT_ENABLED_MESSAGE)) {
+          builder.message(AUDIT_MANAGER_NOT_ENABLED_MESSAGE);
+        }
+        return builder.build();
+      case NotFound:
+        throw new CfnNotFoundException(ResourceModel.TYPE_NAME, identifier, exception);
+      case InvalidRequest:
+        throw new CfnInvalidRequestException(exception);
+      case Throttling:
+        throw new CfnThrottlingException(exception);
+      case ServiceInternalError:
+        throw new CfnServiceInternalErrorException(exception);
+      default:
+        throw new CfnGeneralServiceException(exception.getMessage(), exception);
+    }
+  }
+
+  /**
+   * Translates the exception like {@link #translateToCfnException(AwsServiceException, String)}, except that
+   * throttled calls are handed back to CloudFormation as IN_PROGRESS with a jittered exponential delay.
+   * The number of retries is kept in the callback context so the budget spans re-invocations.
+   *
+   * @param exception the exception thrown by the service call
+   * @param identifier the identifier of the resource
+   * @param model the resource model to hand back on retry
+   * @param callbackContext the callback context carrying the retry budget
+   * @return the progress event to return from the handler
+   */
+  public static ProgressEvent<ResourceModel, CallbackContext> translateToCfnException(
+      final AwsServiceException exception,
+      final String identifier,
+      final ResourceModel model,
+      final CallbackContext callbackContext) {
+    if (exception.isThrottlingException() && callbackContext.getThrottlingRetries() < MAX_THROTTLING_RETRIES) {
+      final int retry = callbackContext.getThrottlingRetries();
+      callbackContext.setThrottlingRetries(retry + 1);
+      return ProgressEvent.defaultInProgressHandler(callbackContext, computeThrottlingDelaySeconds(retry), model);
+    }
+    return translateToCfnException(exception, identifier);
+  }
+
+  /**
+   * The error code a failure ends up with, for reporting and for {@link #translateToCfnException(AwsServiceException,
+   * String)}, which surfaces service errors with it. Exceptions raised before a call is sent get the code they
+   * are surfaced with, anything else is left to the wrapper as an internal failure.
+   *
+   * @param failure the failure of a service call
+   * @return the handler error code
+   */
+  public static HandlerErrorCode errorCodeFor(final Throwable failure) {
+    if (failure instanceof BaseHandlerException) {
+      return ((BaseHandlerException) failure).getErrorCode();
+    }
+    if (failure instanceof RequestDeferredException) {
+      return HandlerErrorCode.Throttling;
+    }
+    if (!(failure instanceof AwsServiceException)) {
+      return HandlerErrorCode.InternalFailure;
+    }
+    final AwsServiceException exception = (AwsServiceException) failure;
     if (exception instanceof AccessDeniedException) {
-      builder.errorCode(HandlerErrorCode.AccessDenied);
-      if (exception.getMessage().contains(AUDIT_MANAGER_NOT_ENABLED_MESSAGE)) {
-        builder.message(AUDIT_MANAGER_NOT_ENABLED_MESSAGE);
-      }
-      return builder.build();
+      return HandlerErrorCode.AccessDenied;
     }
     if (exception instanceof ResourceNotFoundException) {
-      throw new CfnNotFoundException(ResourceModel.TYPE_NAME, identifier, exception);
+      return HandlerErrorCode.NotFound;
     }
     if (exception instanceof ValidationException) {
-      throw new CfnInvalidRequestException(exception);
-    } if (exception instanceof AuditManagerException
-        || exception instanceof InternalServerException) {
-      throw new CfnServiceInternalErrorException(exception);
+      return HandlerErrorCode.InvalidRequest;
     }
-    throw new CfnGeneralServiceException(exception.getMessage(), exception);
+    if (exception.isThrottlingException()) {
+      return HandlerErrorCode.Throttling;
+    }
+    if (exception instanceof AuditManagerException || exception instanceof InternalServerException) {
+      return HandlerErrorCode.ServiceInternalError;
+    }
+    return HandlerErrorCode.GeneralServiceException;
+  }
 
+  /**
+   * Exponential backoff with equal jitter: the delay is drawn between half and all of the exponential step.
+   *
+   * @param retry zero based number of retries already made
+   * @return the callback delay in seconds
+   */
+  protected static int computeThrottlingDelaySeconds(final int retry) {
+    final int step = (int) Math.min(MAX_THROTTLING_DELAY_SECONDS,
+        (long) BASE_THROTTLING_DELAY_SECONDS << Math.min(retry, 30));
+    final int floor = step / 2;
+    return floor + ThreadLocalRandom.current().nextInt(step - floor + 1);
   }
 }
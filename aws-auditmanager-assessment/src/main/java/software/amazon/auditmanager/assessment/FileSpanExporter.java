@@ -0,0 +1,66 @@
+package software.amazon.auditmanager.assessment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends every ended span to a file as a JSON line. Spans that cannot be written are counted and dropped,
+ * tracing never fails an invocation.
+ */
+public class FileSpanExporter implements SpanExporter {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final Path file;
+  private final AtomicLong droppedSpans = new AtomicLong();
+
+  public FileSpanExporter(final Path file) {
+    this.file = file;
+  }
+
+  @Override
+  public void export(final Span span) {
+    final byte[] line;
+    try {
+      line = (MAPPER.writeValueAsString(toJson(span)) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+    } catch (JsonProcessingException e) {
+      droppedSpans.incrementAndGet();
+      return;
+    }
+    synchronized (this) {
+      try {
+        Files.write(file, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+      } catch (IOException e) {
+        droppedSpans.incrementAndGet();
+      }
+    }
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  public long getDroppedSpans() {
+    return droppedSpans.get();
+  }
+
+  private static Map<String, Object> toJson(final Span span) {
+    final Map<String, Object> json = new LinkedHashMap<>();
+    json.put("traceId", span.getTraceId());
+    json.put("spanId", span.getSpanId());
+    json.put("parentSpanId", span.getParentSpanId());
+    json.put("name", span.getName());
+    json.put("startEpochMillis", span.getStartEpochMillis());
+    json.put("durationMicros", span.getDurationMicros());
+    json.put("attributes", span.getAttributes());
+    return json;
+  }
+}
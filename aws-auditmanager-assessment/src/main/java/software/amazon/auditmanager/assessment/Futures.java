@@ -0,0 +1,32 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+final class Futures {
+
+  private Futures() {
+  }
+
+  /**
+   * Waits for the future and rethrows its failure as is, so callers handle AwsServiceException
+   * the same way for synchronous and asynchronous calls.
+   */
+  static <T> T join(final CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * @return the failure a dependent stage was completed with, without the CompletionException wrapping it
+   */
+  static Throwable unwrap(final Throwable failure) {
+    return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+  }
+}
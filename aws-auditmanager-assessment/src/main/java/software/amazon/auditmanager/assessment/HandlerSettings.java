@@ -0,0 +1,265 @@
+package software.amazon.auditmanager.assessment;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Tunables of the handlers. Handlers built by the generated HandlerWrapper read them from the
+ * function's environment, tests build them directly.
+ */
+@lombok.Builder(toBuilder = true)
+@lombok.Getter
+@lombok.ToString
+public class HandlerSettings {
+
+  protected static final String LIST_MAX_PAGES_ENV = "LIST_MAX_PAGES";
+  protected static final String LIST_TIME_BUDGET_MILLIS_ENV = "LIST_TIME_BUDGET_MILLIS";
+  protected static final String LIST_PROJECTION_ENV = "LIST_PROJECTION";
+  protected static final String LIST_ENRICHMENT_CONCURRENCY_ENV = "LIST_ENRICHMENT_CONCURRENCY";
+  protected static final String READ_CACHE_TTL_MILLIS_ENV = "READ_CACHE_TTL_MILLIS";
+  protected static final String READ_CACHE_MAX_ENTRIES_ENV = "READ_CACHE_MAX_ENTRIES";
+  protected static final String NOT_FOUND_CACHE_TTL_MILLIS_ENV = "NOT_FOUND_CACHE_TTL_MILLIS";
+  protected static final String NOT_FOUND_CACHE_MAX_ENTRIES_ENV = "NOT_FOUND_CACHE_MAX_ENTRIES";
+  protected static final String RATE_LIMIT_PER_SECOND_ENV = "RATE_LIMIT_PER_SECOND";
+  protected static final String RATE_LIMIT_BURST_ENV = "RATE_LIMIT_BURST";
+  protected static final String RATE_LIMIT_MAX_WAIT_MILLIS_ENV = "RATE_LIMIT_MAX_WAIT_MILLIS";
+  protected static final String CIRCUIT_BREAKER_FAILURE_RATE_PERCENT_ENV = "CIRCUIT_BREAKER_FAILURE_RATE_PERCENT";
+  protected static final String CIRCUIT_BREAKER_WINDOW_SIZE_ENV = "CIRCUIT_BREAKER_WINDOW_SIZE";
+  protected static final String CIRCUIT_BREAKER_MINIMUM_CALLS_ENV = "CIRCUIT_BREAKER_MINIMUM_CALLS";
+  protected static final String CIRCUIT_BREAKER_OPEN_MILLIS_ENV = "CIRCUIT_BREAKER_OPEN_MILLIS";
+  protected static final String INVOCATION_TIME_BUDGET_MILLIS_ENV = "INVOCATION_TIME_BUDGET_MILLIS";
+  protected static final String MINIMUM_CALL_TIME_MILLIS_ENV = "MINIMUM_CALL_TIME_MILLIS";
+  protected static final String HEDGED_READ_PERCENTILE_ENV = "HEDGED_READ_PERCENTILE";
+  protected static final String HEDGED_READ_MAX_RATE_PERCENT_ENV = "HEDGED_READ_MAX_RATE_PERCENT";
+  protected static final String HEDGED_READ_MINIMUM_DELAY_MILLIS_ENV = "HEDGED_READ_MINIMUM_DELAY_MILLIS";
+  protected static final String COALESCED_READS_ENABLED_ENV = "COALESCED_READS_ENABLED";
+  protected static final String METRICS_NAMESPACE_ENV = "METRICS_NAMESPACE";
+  protected static final String TRACE_FILE_ENV = "TRACE_FILE";
+  protected static final String PRIMING_ENABLED_ENV = "PRIMING_ENABLED";
+  protected static final String AUDIT_MANAGER_ENDPOINT_ENV = "AUDIT_MANAGER_ENDPOINT";
+  protected static final String HTTP_CLIENT_ENV = "HTTP_CLIENT";
+  protected static final String HTTP_MAX_CONNECTIONS_ENV = "HTTP_MAX_CONNECTIONS";
+
+  protected static final int DEFAULT_LIST_MAX_PAGES = 1;
+  protected static final long DEFAULT_LIST_TIME_BUDGET_MILLIS = 20_000L;
+  protected static final ListProjection DEFAULT_LIST_PROJECTION = ListProjection.FULL;
+  protected static final int DEFAULT_LIST_ENRICHMENT_CONCURRENCY = 8;
+  protected static final long DEFAULT_READ_CACHE_TTL_MILLIS = 0L;
+  protected static final int DEFAULT_READ_CACHE_MAX_ENTRIES = 1000;
+  protected static final long DEFAULT_NOT_FOUND_CACHE_TTL_MILLIS = 0L;
+  protected static final int DEFAULT_NOT_FOUND_CACHE_MAX_ENTRIES = 1000;
+  protected static final int DEFAULT_RATE_LIMIT_PER_SECOND = 0;
+  protected static final int DEFAULT_RATE_LIMIT_BURST = 5;
+  protected static final long DEFAULT_RATE_LIMIT_MAX_WAIT_MILLIS = 2_000L;
+  protected static final int DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE_PERCENT = 0;
+  protected static final int DEFAULT_CIRCUIT_BREAKER_WINDOW_SIZE = 20;
+  protected static final int DEFAULT_CIRCUIT_BREAKER_MINIMUM_CALLS = 10;
+  protected static final long DEFAULT_CIRCUIT_BREAKER_OPEN_MILLIS = 30_000L;
+  protected static final long DEFAULT_INVOCATION_TIME_BUDGET_MILLIS = 0L;
+  protected static final long DEFAULT_MINIMUM_CALL_TIME_MILLIS = 1_000L;
+  protected static final int DEFAULT_HEDGED_READ_PERCENTILE = 0;
+  protected static final int DEFAULT_HEDGED_READ_MAX_RATE_PERCENT = 5;
+  protected static final long DEFAULT_HEDGED_READ_MINIMUM_DELAY_MILLIS = 50L;
+  protected static final boolean DEFAULT_COALESCED_READS_ENABLED = false;
+  protected static final String DEFAULT_METRICS_NAMESPACE = "";
+  protected static final String DEFAULT_TRACE_FILE = "";
+  protected static final boolean DEFAULT_PRIMING_ENABLED = false;
+  protected static final String DEFAULT_AUDIT_MANAGER_ENDPOINT = "";
+  protected static final HttpClientType DEFAULT_HTTP_CLIENT = HttpClientType.LAMBDA_WRAPPER;
+  protected static final int DEFAULT_HTTP_MAX_CONNECTIONS = 50;
+
+  // Number of ListAssessments pages a single List invocation may aggregate, 1 keeps one page per invocation
+  @lombok.Builder.Default
+  private final int listMaxPages = DEFAULT_LIST_MAX_PAGES;
+  // Time a List invocation may spend prefetching further pages before handing back the next token
+  @lombok.Builder.Default
+  private final long listTimeBudgetMillis = DEFAULT_LIST_TIME_BUDGET_MILLIS;
+  // Shape of the resource models returned by a List invocation
+  @lombok.Builder.Default
+  private final ListProjection listProjection = DEFAULT_LIST_PROJECTION;
+  // Maximum number of GetAssessment calls in flight when the projection is ENRICHED
+  @lombok.Builder.Default
+  private final int listEnrichmentConcurrency = DEFAULT_LIST_ENRICHMENT_CONCURRENCY;
+  // Time a GetAssessment result is served from memory, 0 disables the read cache
+  @lombok.Builder.Default
+  private final long readCacheTtlMillis = DEFAULT_READ_CACHE_TTL_MILLIS;
+  // Maximum number of assessments held by the read cache
+  @lombok.Builder.Default
+  private final int readCacheMaxEntries = DEFAULT_READ_CACHE_MAX_ENTRIES;
+  // Time Read and Delete answer NotFound locally for an assessment the service reported as not found, 0 disables it
+  @lombok.Builder.Default
+  private final long notFoundCacheTtlMillis = DEFAULT_NOT_FOUND_CACHE_TTL_MILLIS;
+  // Maximum number of assessment ids remembered as not found
+  @lombok.Builder.Default
+  private final int notFoundCacheMaxEntries = DEFAULT_NOT_FOUND_CACHE_MAX_ENTRIES;
+  // Audit Manager calls per second allowed per account and region, 0 disables the client-side rate limit
+  @lombok.Builder.Default
+  private final int rateLimitPerSecond = DEFAULT_RATE_LIMIT_PER_SECOND;
+  // Calls that may be sent at once before the rate limit paces them
+  @lombok.Builder.Default
+  private final int rateLimitBurst = DEFAULT_RATE_LIMIT_BURST;
+  // Time a call may wait for the rate limit before it is deferred to a later invocation
+  @lombok.Builder.Default
+  private final long rateLimitMaxWaitMillis = DEFAULT_RATE_LIMIT_MAX_WAIT_MILLIS;
+  // Share of failed calls, in percent, that opens the circuit breaker of a region, 0 disables circuit breaking
+  @lombok.Builder.Default
+  private final int circuitBreakerFailureRatePercent = DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE_PERCENT;
+  // Number of most recent calls the failure rate is computed over
+  @lombok.Builder.Default
+  private final int circuitBreakerWindowSize = DEFAULT_CIRCUIT_BREAKER_WINDOW_SIZE;
+  // Number of calls the window must hold before the failure rate is considered
+  @lombok.Builder.Default
+  private final int circuitBreakerMinimumCalls = DEFAULT_CIRCUIT_BREAKER_MINIMUM_CALLS;
+  // Time an open circuit breaker rejects calls before letting a probe call through
+  @lombok.Builder.Default
+  private final long circuitBreakerOpenMillis = DEFAULT_CIRCUIT_BREAKER_OPEN_MILLIS;
+  // Time a handler invocation may spend in Audit Manager calls, 0 leaves the calls to the SDK default timeouts
+  @lombok.Builder.Default
+  private final long invocationTimeBudgetMillis = DEFAULT_INVOCATION_TIME_BUDGET_MILLIS;
+  // Time left in the invocation budget below which a call is handed to a later invocation instead of being sent
+  @lombok.Builder.Default
+  private final long minimumCallTimeMillis = DEFAULT_MINIMUM_CALL_TIME_MILLIS;
+  // Percentile of the recent GetAssessment latencies after which Read sends a second call, 0 disables hedging
+  @lombok.Builder.Default
+  private final int hedgedReadPercentile = DEFAULT_HEDGED_READ_PERCENTILE;
+  // Maximum share of GetAssessment calls, in percent, that may be hedged
+  @lombok.Builder.Default
+  private final int hedgedReadMaxRatePercent = DEFAULT_HEDGED_READ_MAX_RATE_PERCENT;
+  // Shortest time Read waits for an answer before hedging, whatever the percentile
+  @lombok.Builder.Default
+  private final long hedgedReadMinimumDelayMillis = DEFAULT_HEDGED_READ_MINIMUM_DELAY_MILLIS;
+  // Whether overlapping reads of the same assessment with the same credentials share one GetAssessment call
+  @lombok.Builder.Default
+  private final boolean coalescedReadsEnabled = DEFAULT_COALESCED_READS_ENABLED;
+  // CloudWatch namespace the call metrics are published to as embedded metric format logs, empty disables them
+  @lombok.Builder.Default
+  private final String metricsNamespace = DEFAULT_METRICS_NAMESPACE;
+  // File the spans of the handler phases are appended to as JSON lines, empty disables tracing
+  @lombok.Builder.Default
+  private final String traceFile = DEFAULT_TRACE_FILE;
+  // Whether the client, the translations and the serialization are exercised while the function initializes
+  @lombok.Builder.Default
+  private final boolean primingEnabled = DEFAULT_PRIMING_ENABLED;
+  // Endpoint the clients call instead of the regional Audit Manager endpoint, e.g. a local stub, empty keeps the latter
+  @lombok.Builder.Default
+  private final String auditManagerEndpoint = DEFAULT_AUDIT_MANAGER_ENDPOINT;
+  // HTTP client of the synchronous Audit Manager clients
+  @lombok.Builder.Default
+  private final HttpClientType httpClient = DEFAULT_HTTP_CLIENT;
+  // Size of the connection pool of the APACHE HTTP client
+  @lombok.Builder.Default
+  private final int httpMaxConnections = DEFAULT_HTTP_MAX_CONNECTIONS;
+
+  public static HandlerSettings defaults() {
+    return HandlerSettings.builder().build();
+  }
+
+  public static HandlerSettings fromEnvironment() {
+    return fromEnvironment(System::getenv);
+  }
+
+  /**
+   * Reads the settings through the given lookup, missing or malformed values fall back to the defaults.
+   */
+  static HandlerSettings fromEnvironment(final Function<String, String> environment) {
+    return HandlerSettings.builder()
+        .listMaxPages((int) positiveLong(environment, LIST_MAX_PAGES_ENV, DEFAULT_LIST_MAX_PAGES))
+        .listTimeBudgetMillis(positiveLong(environment, LIST_TIME_BUDGET_MILLIS_ENV, DEFAULT_LIST_TIME_BUDGET_MILLIS))
+        .listProjection(enumValue(environment, LIST_PROJECTION_ENV, ListProjection.class, DEFAULT_LIST_PROJECTION))
+        .listEnrichmentConcurrency((int) positiveLong(environment, LIST_ENRICHMENT_CONCURRENCY_ENV,
+            DEFAULT_LIST_ENRICHMENT_CONCURRENCY))
+        .readCacheTtlMillis(positiveLong(environment, READ_CACHE_TTL_MILLIS_ENV, DEFAULT_READ_CACHE_TTL_MILLIS))
+        .readCacheMaxEntries((int) positiveLong(environment, READ_CACHE_MAX_ENTRIES_ENV,
+            DEFAULT_READ_CACHE_MAX_ENTRIES))
+        .notFoundCacheTtlMillis(positiveLong(environment, NOT_FOUND_CACHE_TTL_MILLIS_ENV,
+            DEFAULT_NOT_FOUND_CACHE_TTL_MILLIS))
+        .notFoundCacheMaxEntries((int) positiveLong(environment, NOT_FOUND_CACHE_MAX_ENTRIES_ENV,
+            DEFAULT_NOT_FOUND_CACHE_MAX_ENTRIES))
+        .rateLimitPerSecond((int) positiveLong(environment, RATE_LIMIT_PER_SECOND_ENV, DEFAULT_RATE_LIMIT_PER_SECOND))
+        .rateLimitBurst((int) positiveLong(environment, RATE_LIMIT_BURST_ENV, DEFAULT_RATE_LIMIT_BURST))
+        .rateLimitMaxWaitMillis(positiveLong(environment, RATE_LIMIT_MAX_WAIT_MILLIS_ENV,
+            DEFAULT_RATE_LIMIT_MAX_WAIT_MILLIS))
+        .circuitBreakerFailureRatePercent(percent(environment, CIRCUIT_BREAKER_FAILURE_RATE_PERCENT_ENV,
+            DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE_PERCENT))
+        .circuitBreakerWindowSize((int) positiveLong(environment, CIRCUIT_BREAKER_WINDOW_SIZE_ENV,
+            DEFAULT_CIRCUIT_BREAKER_WINDOW_SIZE))
+        .circuitBreakerMinimumCalls((int) positiveLong(environment, CIRCUIT_BREAKER_MINIMUM_CALLS_ENV,
+            DEFAULT_CIRCUIT_BREAKER_MINIMUM_CALLS))
+        .circuitBreakerOpenMillis(positiveLong(environment, CIRCUIT_BREAKER_OPEN_MILLIS_ENV,
+            DEFAULT_CIRCUIT_BREAKER_OPEN_MILLIS))
+        .invocationTimeBudgetMillis(positiveLong(environment, INVOCATION_TIME_BUDGET_MILLIS_ENV,
+            DEFAULT_INVOCATION_TIME_BUDGET_MILLIS))
+        .minimumCallTimeMillis(positiveLong(environment, MINIMUM_CALL_TIME_MILLIS_ENV,
+            DEFAULT_MINIMUM_CALL_TIME_MILLIS))
+        .hedgedReadPercentile(percent(environment, HEDGED_READ_PERCENTILE_ENV, DEFAULT_HEDGED_READ_PERCENTILE))
+        .hedgedReadMaxRatePercent(percent(environment, HEDGED_READ_MAX_RATE_PERCENT_ENV,
+            DEFAULT_HEDGED_READ_MAX_RATE_PERCENT))
+        .hedgedReadMinimumDelayMillis(positiveLong(environment, HEDGED_READ_MINIMUM_DELAY_MILLIS_ENV,
+            DEFAULT_HEDGED_READ_MINIMUM_DELAY_MILLIS))
+        .coalescedReadsEnabled(flag(environment, COALESCED_READS_ENABLED_ENV, DEFAULT_COALESCED_READS_ENABLED))
+        .metricsNamespace(trimmed(environment, METRICS_NAMESPACE_ENV, DEFAULT_METRICS_NAMESPACE))
+        .traceFile(trimmed(environment, TRACE_FILE_ENV, DEFAULT_TRACE_FILE))
+        .primingEnabled(flag(environment, PRIMING_ENABLED_ENV, DEFAULT_PRIMING_ENABLED))
+        .auditManagerEndpoint(endpoint(environment))
+        .httpClient(enumValue(environment, HTTP_CLIENT_ENV, HttpClientType.class, DEFAULT_HTTP_CLIENT))
+        .httpMaxConnections((int) positiveLong(environment, HTTP_MAX_CONNECTIONS_ENV, DEFAULT_HTTP_MAX_CONNECTIONS))
+        .build();
+  }
+
+  private static <E extends Enum<E>> E enumValue(final Function<String, String> environment, final String name,
+                                                  final Class<E> type, final E defaultValue) {
+    final String value = environment.apply(name);
+    if (value == null) return defaultValue;
+    try {
+      return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      return defaultValue;
+    }
+  }
+
+  private static String endpoint(final Function<String, String> environment) {
+    final String value = trimmed(environment, AUDIT_MANAGER_ENDPOINT_ENV, DEFAULT_AUDIT_MANAGER_ENDPOINT);
+    if (value.isEmpty()) return DEFAULT_AUDIT_MANAGER_ENDPOINT;
+    try {
+      final URI uri = new URI(value);
+      return uri.getScheme() != null && uri.getHost() != null ? value : DEFAULT_AUDIT_MANAGER_ENDPOINT;
+    } catch (URISyntaxException e) {
+      return DEFAULT_AUDIT_MANAGER_ENDPOINT;
+    }
+  }
+
+  private static String trimmed(final Function<String, String> environment, final String name,
+                                final String defaultValue) {
+    final String value = environment.apply(name);
+    return value == null ? defaultValue : value.trim();
+  }
+
+  private static boolean flag(final Function<String, String> environment, final String name,
+                              final boolean defaultValue) {
+    final String value = environment.apply(name);
+    if (value == null) return defaultValue;
+    final String trimmed = value.trim();
+    if ("true".equalsIgnoreCase(trimmed)) return true;
+    if ("false".equalsIgnoreCase(trimmed)) return false;
+    return defaultValue;
+  }
+
+  private static int percent(final Function<String, String> environment, final String name, final int defaultValue) {
+    final long percent = positiveLong(environment, name, defaultValue);
+    return percent <= 100 ? (int) percent : defaultValue;
+  }
+
+  private static long positiveLong(final Function<String, String> environment, final String name,
+                                   final long defaultValue) {
+    final String value = environment.apply(name);
+    if (value == null) return defaultValue;
+    try {
+      final long parsed = Long.parseLong(value.trim());
+      return parsed > 0 && parsed <= Integer.MAX_VALUE ? parsed : defaultValue;
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+}
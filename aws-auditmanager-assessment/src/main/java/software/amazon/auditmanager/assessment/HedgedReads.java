@@ -0,0 +1,36 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hedgers of the GetAssessment calls made by Read, one per region since latencies differ between
+ * regions, shared by the handlers of a warm container. Hedging is disabled unless its percentile
+ * is configured.
+ */
+final class HedgedReads {
+
+  private static final ConcurrentMap<String, Hedger> HEDGERS = new ConcurrentHashMap<>();
+  private static volatile HandlerSettings settings = HandlerSettings.fromEnvironment();
+
+  private HedgedReads() {
+  }
+
+  /**
+   * @return the hedger of the region, or null if hedging is disabled
+   */
+  static Hedger forRegion(final String region) {
+    final HandlerSettings current = settings;
+    if (current.getHedgedReadPercentile() <= 0) return null;
+    return HEDGERS.computeIfAbsent(String.valueOf(region), key -> new Hedger(current.getHedgedReadPercentile(),
+        current.getHedgedReadMaxRatePercent(), current.getHedgedReadMinimumDelayMillis()));
+  }
+
+  /**
+   * Replaces the settings and drops the hedgers, with their latencies, built from the previous ones.
+   */
+  static void configure(final HandlerSettings handlerSettings) {
+    settings = handlerSettings;
+    HEDGERS.clear();
+  }
+}
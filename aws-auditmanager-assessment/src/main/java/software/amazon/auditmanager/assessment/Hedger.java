@@ -0,0 +1,147 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Sends a second, identical call when the first has not answered within a percentile of the recent
+ * latencies, and completes with whichever answers first. Only for idempotent calls.
+ *
+ * Hedges are paid for with credits: every call earns the configured share of a hedge and a hedge
+ * costs a whole one, so hedges stay below that share of the calls, with a small burst allowance.
+ * The call that loses is left to complete on its own.
+ */
+public class Hedger {
+
+  private static final int MAX_BURST_HEDGES = 10;
+  private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    final Thread thread = new Thread(runnable, "hedged-calls");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final int percentile;
+  private final int maxHedgePercent;
+  private final long minimumDelayNanos;
+  private final LatencyTracker latencies;
+  private final AtomicLong calls = new AtomicLong();
+  private final AtomicLong hedges = new AtomicLong();
+  private final AtomicLong hedgeWins = new AtomicLong();
+  /* in hundredths of a hedge */
+  private int credits;
+
+  public Hedger(final int percentile, final int maxHedgePercent, final long minimumDelayMillis) {
+    this(percentile, maxHedgePercent, minimumDelayMillis, new LatencyTracker());
+  }
+
+  public Hedger(final int percentile, final int maxHedgePercent, final long minimumDelayMillis,
+                final LatencyTracker latencies) {
+    if (percentile < 1 || percentile > 100 || maxHedgePercent < 1 || maxHedgePercent > 100) {
+      throw new IllegalArgumentException("percentile and maxHedgePercent must be between 1 and 100");
+    }
+    this.percentile = percentile;
+    this.maxHedgePercent = maxHedgePercent;
+    this.minimumDelayNanos = TimeUnit.MILLISECONDS.toNanos(minimumDelayMillis);
+    this.latencies = latencies;
+  }
+
+  /**
+   * Starts the call, and a hedge of it once the hedge delay passes without an answer.
+   *
+   * @param call starts one attempt of the call, it is invoked on the shared scheduler thread for the hedge and
+   *             must not block there
+   * @return the answer of the first attempt to succeed, or the failure of the last one to fail
+   */
+  public <T> CompletableFuture<T> execute(final Supplier<CompletableFuture<T>> call) {
+    calls.incrementAndGet();
+    earnCredit();
+    final long delayNanos = hedgeDelayNanos();
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    final AtomicInteger outstanding = new AtomicInteger(1);
+    attempt(call.get(), false, result, outstanding);
+    if (delayNanos >= 0 && !result.isDone()) {
+      SCHEDULER.schedule(() -> hedge(call, result, outstanding), delayNanos, TimeUnit.NANOSECONDS);
+    }
+    return result;
+  }
+
+  /**
+   * @return the time after which a call is hedged, or -1 while too few latencies are known
+   */
+  public long hedgeDelayNanos() {
+    final long percentileNanos = latencies.percentileNanos(percentile);
+    return percentileNanos < 0 ? -1L : Math.max(minimumDelayNanos, percentileNanos);
+  }
+
+  public long getCalls() {
+    return calls.get();
+  }
+
+  public long getHedges() {
+    return hedges.get();
+  }
+
+  /**
+   * @return the number of hedges that answered before the call they hedged
+   */
+  public long getHedgeWins() {
+    return hedgeWins.get();
+  }
+
+  private <T> void hedge(final Supplier<CompletableFuture<T>> call, final CompletableFuture<T> result,
+                         final AtomicInteger outstanding) {
+    if (result.isDone() || !spendCredit()) return;
+    // once every attempt has failed the result is settled, a late hedge must not be sent
+    if (outstanding.getAndUpdate(pending -> pending == 0 ? 0 : pending + 1) == 0) {
+      refundCredit();
+      return;
+    }
+    final CompletableFuture<T> attempt;
+    try {
+      attempt = call.get();
+    } catch (RuntimeException e) {
+      // the hedge was not sent, e.g. it was refused a rate limit permit, so it is neither paid for nor counted
+      refundCredit();
+      if (outstanding.decrementAndGet() == 0) {
+        result.completeExceptionally(e);
+      }
+      return;
+    }
+    hedges.incrementAndGet();
+    attempt(attempt, true, result, outstanding);
+  }
+
+  private <T> void attempt(final CompletableFuture<T> attempt, final boolean isHedge,
+                           final CompletableFuture<T> result, final AtomicInteger outstanding) {
+    final long startNanos = System.nanoTime();
+    attempt.whenComplete((answer, failure) -> {
+      if (failure == null) {
+        latencies.record(System.nanoTime() - startNanos);
+        if (result.complete(answer) && isHedge) {
+          hedgeWins.incrementAndGet();
+        }
+      } else if (outstanding.decrementAndGet() == 0) {
+        result.completeExceptionally(failure);
+      }
+    });
+  }
+
+  private synchronized void earnCredit() {
+    credits = Math.min(MAX_BURST_HEDGES * 100, credits + maxHedgePercent);
+  }
+
+  private synchronized boolean spendCredit() {
+    if (credits < 100) return false;
+    credits -= 100;
+    return true;
+  }
+
+  private synchronized void refundCredit() {
+    credits = Math.min(MAX_BURST_HEDGES * 100, credits + 100);
+  }
+}
@@ -0,0 +1,13 @@
+package software.amazon.auditmanager.assessment;
+
+/**
+ * HTTP client the synchronous Audit Manager clients send their calls through.
+ */
+public enum HttpClientType {
+  // The Apache based client of the CloudFormation wrapper, shared with the wrapper's own calls
+  LAMBDA_WRAPPER,
+  // The client over the JDK's HttpURLConnection: fewest classes to load, no connection pool of its own
+  URL_CONNECTION,
+  // A dedicated Apache based client whose pool is sized by HTTP_MAX_CONNECTIONS
+  APACHE
+}
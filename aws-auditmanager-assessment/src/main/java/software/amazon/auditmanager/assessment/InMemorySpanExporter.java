@@ -0,0 +1,33 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the ended spans in memory, in the order they ended. Meant for tests and local investigations.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+  private final List<Span> spans = new ArrayList<>();
+
+  @Override
+  public synchronized void export(final Span span) {
+    spans.add(span);
+  }
+
+  public synchronized List<Span> getSpans() {
+    return new ArrayList<>(spans);
+  }
+
+  /**
+   * @return the ended spans with the given name
+   */
+  public synchronized List<Span> getSpans(final String name) {
+    return spans.stream().filter(span -> name.equals(span.getName())).collect(Collectors.toList());
+  }
+
+  public synchronized void reset() {
+    spans.clear();
+  }
+}
@@ -0,0 +1,57 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.Arrays;
+
+/**
+ * Thread-safe record of the most recent latencies of a call, from which percentiles are read.
+ * Percentiles are only reported once enough latencies have been recorded to be meaningful.
+ */
+public class LatencyTracker {
+
+  protected static final int DEFAULT_WINDOW_SIZE = 200;
+  protected static final int DEFAULT_MINIMUM_SAMPLES = 20;
+
+  private final long[] window;
+  private final int minimumSamples;
+  private int recorded;
+  private int nextSlot;
+
+  public LatencyTracker() {
+    this(DEFAULT_WINDOW_SIZE, DEFAULT_MINIMUM_SAMPLES);
+  }
+
+  public LatencyTracker(final int windowSize, final int minimumSamples) {
+    if (windowSize < 1 || minimumSamples < 1 || minimumSamples > windowSize) {
+      throw new IllegalArgumentException("minimumSamples must be between 1 and windowSize");
+    }
+    this.window = new long[windowSize];
+    this.minimumSamples = minimumSamples;
+  }
+
+  public synchronized void record(final long latencyNanos) {
+    window[nextSlot] = latencyNanos;
+    nextSlot = (nextSlot + 1) % window.length;
+    if (recorded < window.length) {
+      recorded++;
+    }
+  }
+
+  /**
+   * @param percentile between 1 and 100
+   * @return the nearest-rank percentile of the recorded latencies in nanoseconds, or -1 while too few are recorded
+   */
+  public long percentileNanos(final int percentile) {
+    final long[] sorted;
+    synchronized (this) {
+      if (recorded < minimumSamples) return -1L;
+      sorted = Arrays.copyOf(window, recorded);
+    }
+    Arrays.sort(sorted);
+    final int rank = (int) Math.ceil(percentile / 100d * sorted.length);
+    return sorted[Math.min(sorted.length, Math.max(1, rank)) - 1];
+  }
+
+  public synchronized int size() {
+    return recorded;
+  }
+}
@@ -1,25 +1,39 @@
 package software.amazon.auditmanager.assessment;
 
-import java.util.stream.Collectors;
-import software.amazon.awssdk.awscore.AwsRequest;
-import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.awssdk.services.auditmanager.AuditManagerAsyncClient;
 import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentRequest;
 import software.amazon.awssdk.services.auditmanager.model.ListAssessmentsRequest;
 import software.amazon.awssdk.services.auditmanager.model.ListAssessmentsResponse;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 public class ListHandler extends BaseHandlerStd {
 
     private static final Integer MAX_RESULTS = 50;
+    protected static final String ENRICHMENT_FAILED_MESSAGE = "Could not read %d of %d assessments, "
+        + "they are returned as listed: %s";
+
+    private final HandlerSettings settings;
+
+    public ListHandler() {
+        this(HandlerSettings.fromEnvironment());
+    }
+
+    ListHandler(final HandlerSettings settings) {
+        this.settings = settings;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -28,21 +42,86 @@ public class ListHandler extends BaseHandlerStd {
         final CallbackContext callbackContext,
         final ProxyClient<AuditManagerClient> proxyClient,
         final Logger logger) {
-        final ListAssessmentsRequest listAssessmentsRequest = ListAssessmentsRequest.builder()
-            .nextToken(request.getNextToken()).maxResults(MAX_RESULTS).build();
-        ListAssessmentsResponse listAssessmentsResponse;
-        try {
-            listAssessmentsResponse = proxy.injectCredentialsAndInvokeV2(listAssessmentsRequest,
-                proxyClient.client()::listAssessments);
-        } catch (AwsServiceException e) {
-            return ExceptionTranslator.translateToCfnException(e, "No identifier specified");
-        }
+        final TimeBudget budget = TimeBudget.startingNow(settings.getListTimeBudgetMillis());
+        final List<ResourceModel> resourceModels = new ArrayList<>();
+        String nextToken = request.getNextToken();
+        int pages = 0;
+        long slowestPageMillis = 0L;
+        final ApiInvoker invoker = apiInvoker(proxy, request);
+
+        /* Keeps fetching pages while there are more, the page limit is not reached and the
+         * slowest page seen so far would still complete within the time budget.
+         */
+        do {
+            final long pageStartMillis = budget.elapsedMillis();
+            final ListAssessmentsRequest listAssessmentsRequest = ListAssessmentsRequest.builder()
+                .nextToken(nextToken).maxResults(MAX_RESULTS).build();
+            final ListAssessmentsResponse listAssessmentsResponse;
+            try {
+                listAssessmentsResponse = invoker.invoke(listAssessmentsRequest, proxyClient.client()::listAssessments);
+            } catch (AwsServiceException | RequestDeferredException e) {
+                if (pages == 0) {
+                    if (e instanceof RequestDeferredException) {
+                        throw new CfnThrottlingException(e);
+                    }
+                    return ExceptionTranslator.translateToCfnException((AwsServiceException) e, "No identifier specified");
+                }
+                // the pages fetched so far are still valid, the caller resumes from the failed page
+                logger.log(String.format("Stopped prefetching %s after %d pages: %s",
+                    ResourceModel.TYPE_NAME, pages, e.getMessage()));
+                break;
+            }
 
-        request.setNextToken(listAssessmentsResponse.nextToken());
+            final List<ResourceModel> pageModels =
+                Tracer.trace(Tracer.MAP_RESPONSE_SPAN, () -> toResourceModels(listAssessmentsResponse));
+            if (pageModels != null) {
+                resourceModels.addAll(pageModels);
+            }
+            nextToken = listAssessmentsResponse.nextToken();
+            pages++;
+            slowestPageMillis = Math.max(slowestPageMillis, budget.elapsedMillis() - pageStartMillis);
+        } while (nextToken != null && pages < settings.getListMaxPages() && budget.fits(slowestPageMillis));
+
+        request.setNextToken(nextToken);
+        if (settings.getListProjection() == ListProjection.ENRICHED) {
+            final AssessmentEnricher.Result enriched = new AssessmentEnricher(settings.getListEnrichmentConcurrency())
+                .enrich(resourceModels, readAssessment(invoker, asyncProxyClient(proxy, request)), budget);
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(enriched.getModels())
+                .nextToken(request.getNextToken())
+                .message(enriched.getFailures().isEmpty() ? null : String.format(ENRICHMENT_FAILED_MESSAGE,
+                    enriched.getFailures().size(), resourceModels.size(), String.join(", ", enriched.getFailures())))
+                .status(OperationStatus.SUCCESS)
+                .build();
+        }
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(Utils.transformToListAssessmentsResponse(listAssessmentsResponse))
+            .resourceModels(resourceModels)
             .nextToken(request.getNextToken())
             .status(OperationStatus.SUCCESS)
             .build();
     }
+
+    private Function<String, CompletableFuture<ResourceModel>> readAssessment(
+        final ApiInvoker invoker,
+        final ProxyClient<AuditManagerAsyncClient> asyncProxyClient) {
+        return assessmentId -> {
+            final GetAssessmentRequest getAssessmentRequest = GetAssessmentRequest.builder()
+                .assessmentId(assessmentId).build();
+            return invoker
+                .invokeAsync(asyncProxyClient, getAssessmentRequest, asyncProxyClient.client()::getAssessment)
+                .thenApply(getAssessmentResponse -> Utils.transformToAssessmentResourceModel(
+                    ResourceModel.builder().assessmentId(assessmentId).build(), getAssessmentResponse.assessment()));
+        };
+    }
+
+    private List<ResourceModel> toResourceModels(final ListAssessmentsResponse listAssessmentsResponse) {
+        switch (settings.getListProjection()) {
+            case IDENTIFIER:
+                return Utils.transformToAssessmentIdentifiers(listAssessmentsResponse);
+            case FULL:
+            case ENRICHED:
+            default:
+                return Utils.transformToListAssessmentsResponse(listAssessmentsResponse);
+        }
+    }
 }
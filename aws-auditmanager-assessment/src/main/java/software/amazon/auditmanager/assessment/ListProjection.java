@@ -0,0 +1,13 @@
+package software.amazon.auditmanager.assessment;
+
+/**
+ * Shape of the resource models returned by ListHandler.
+ */
+public enum ListProjection {
+  // The fields ListAssessments returns for each assessment: identifier, name, status, creation time, roles and delegations
+  FULL,
+  // The primary identifier only, which is all the list contract requires
+  IDENTIFIER,
+  // The full model of every listed assessment, read with a bounded number of concurrent GetAssessment calls
+  ENRICHED
+}
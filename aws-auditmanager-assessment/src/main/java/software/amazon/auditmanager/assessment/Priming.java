@@ -0,0 +1,155 @@
+package software.amazon.auditmanager.assessment;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import software.amazon.awssdk.services.auditmanager.model.AWSAccount;
+import software.amazon.awssdk.services.auditmanager.model.AWSService;
+import software.amazon.awssdk.services.auditmanager.model.Assessment;
+import software.amazon.awssdk.services.auditmanager.model.AssessmentFramework;
+import software.amazon.awssdk.services.auditmanager.model.AssessmentMetadata;
+import software.amazon.awssdk.services.auditmanager.model.AssessmentReportsDestination;
+import software.amazon.awssdk.services.auditmanager.model.Delegation;
+import software.amazon.awssdk.services.auditmanager.model.Role;
+import software.amazon.awssdk.services.auditmanager.model.Scope;
+import software.amazon.cloudformation.resource.Serializer;
+
+/**
+ * Moves the one-off costs of the first invocation to the function's init phase: building the SDK client
+ * of the function's region, loading the translation between resource models and SDK objects, and the
+ * Jackson (de)serializers of ResourceModel used by the wrapper. Priming works on synthetic models and
+ * makes no call; a failure only means the first invocation pays the cost again.
+ *
+ * Priming only pays off where init is not on the path of the first invocation, so it is off unless enabled.
+ * With snapshot-based restore (Lambda SnapStart or any CRaC runtime), init and so priming run before the
+ * snapshot is taken. The cached clients, and the HTTP client built for them, are closed before the
+ * checkpoint, so that no connection is captured in the snapshot, and priming runs again after restore to
+ * build them anew. The HTTP client of the wrapper cannot be closed, so the hooks are not registered when
+ * the clients share it. On a JVM without CRaC support the hooks are never called.
+ */
+final class Priming {
+
+  static final String REGION_ENV = "AWS_REGION";
+
+  private static final String SYNTHETIC_ID = "00000000-0000-0000-0000-000000000000";
+  private static final Instant SYNTHETIC_TIME = Instant.ofEpochSecond(1_600_000_000L);
+
+  // CRaC only holds weak references to registered resources
+  private static final Resource CHECKPOINT_HOOKS = new Resource() {
+    @Override
+    public void beforeCheckpoint(final Context<? extends Resource> context) {
+      ClientBuilder.closeClients();
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+      prime(System.getenv(REGION_ENV));
+    }
+  };
+  private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+  private Priming() {
+  }
+
+  /**
+   * Primes once per JVM, when enabled, and registers the checkpoint hooks unless the clients use the
+   * wrapper's HTTP client.
+   */
+  static void onInit(final HandlerSettings settings) {
+    if (!settings.isPrimingEnabled() || !REGISTERED.compareAndSet(false, true)) return;
+    prime(System.getenv(REGION_ENV));
+    if (settings.getHttpClient() == HttpClientType.LAMBDA_WRAPPER) return;
+    try {
+      Core.getGlobalContext().register(CHECKPOINT_HOOKS);
+    } catch (RuntimeException | LinkageError e) {
+      // no checkpoint support, the priming above still applies
+    }
+  }
+
+  /**
+   * @param region region whose client is built, null skips the client
+   * @return true if every step succeeded
+   */
+  static boolean prime(final String region) {
+    boolean primed = true;
+    if (region != null && !region.isEmpty()) {
+      primed = attempt(() -> ClientBuilder.getClient(region));
+    }
+    primed &= attempt(Priming::translate);
+    primed &= attempt(Priming::serialize);
+    return primed;
+  }
+
+  private static void translate() {
+    final ResourceModel model = Utils.transformToAssessmentResourceModel(
+        ResourceModel.builder().build(), syntheticAssessment());
+    Utils.transformToCreateAssessmentRequest(model);
+    Utils.cfnTagsToSdkTags(model.getTags());
+  }
+
+  private static void serialize() {
+    final Serializer serializer = new Serializer();
+    final ResourceModel model = Utils.transformToAssessmentResourceModel(
+        ResourceModel.builder().build(), syntheticAssessment());
+    try {
+      serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Assessment syntheticAssessment() {
+    final AWSAccount account = AWSAccount.builder()
+        .id("000000000000")
+        .name("priming")
+        .emailAddress("priming@example.com")
+        .build();
+    return Assessment.builder()
+        .arn("arn:aws:auditmanager:us-east-1:000000000000:assessment/" + SYNTHETIC_ID)
+        .tags(Collections.singletonMap("key", "value"))
+        .awsAccount(account)
+        .framework(AssessmentFramework.builder().id(SYNTHETIC_ID).build())
+        .metadata(AssessmentMetadata.builder()
+            .id(SYNTHETIC_ID)
+            .name("priming")
+            .description("priming")
+            .status("ACTIVE")
+            .creationTime(SYNTHETIC_TIME)
+            .assessmentReportsDestination(AssessmentReportsDestination.builder()
+                .destinationType("S3")
+                .destination("s3://priming")
+                .build())
+            .scope(Scope.builder()
+                .awsAccounts(account)
+                .awsServices(AWSService.builder().serviceName("S3").build())
+                .build())
+            .roles(Role.builder()
+                .roleType("PROCESS_OWNER")
+                .roleArn("arn:aws:iam::000000000000:role/priming")
+                .build())
+            .delegations(Delegation.builder()
+                .id(SYNTHETIC_ID)
+                .assessmentId(SYNTHETIC_ID)
+                .roleType("PROCESS_OWNER")
+                .roleArn("arn:aws:iam::000000000000:role/priming")
+                .status("IN_PROGRESS")
+                .creationTime(SYNTHETIC_TIME)
+                .build())
+            .build())
+        .build();
+  }
+
+  private static boolean attempt(final Runnable step) {
+    try {
+      step.run();
+      return true;
+    } catch (RuntimeException | LinkageError e) {
+      return false;
+    }
+  }
+}
@@ -1,24 +1,23 @@
 package software.amazon.auditmanager.assessment;
 
-import software.amazon.awssdk.core.exception.SdkClientException;
-import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.auditmanager.AuditManagerAsyncClient;
 import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.awssdk.services.auditmanager.model.Assessment;
 import software.amazon.awssdk.services.auditmanager.model.GetAssessmentRequest;
 import software.amazon.awssdk.services.auditmanager.model.GetAssessmentResponse;
 import software.amazon.awssdk.services.auditmanager.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.auditmanager.model.AccessDeniedException;
-import software.amazon.awssdk.services.auditmanager.model.AuditManagerException;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -32,19 +31,55 @@ public class ReadHandler extends BaseHandlerStd {
       final ProxyClient<AuditManagerClient> proxyClient,
       final Logger logger) {
     final ResourceModel model = request.getDesiredResourceState();
-    GetAssessmentRequest getAssessmentRequest = GetAssessmentRequest.builder()
+    final GetAssessmentRequest getAssessmentRequest = GetAssessmentRequest.builder()
         .assessmentId(model.getAssessmentId()).build();
 
-    GetAssessmentResponse getAssessmentResponse = null;
-    try {
-      getAssessmentResponse = proxy.injectCredentialsAndInvokeV2(getAssessmentRequest,
-          proxyClient.client()::getAssessment);
-      logger.log(String.format("%s [%s] retrieved successfully", ResourceModel.TYPE_NAME, model.getAssessmentId()));
-    } catch (AwsServiceException e) {
-      return ExceptionTranslator.translateToCfnException(e, model.getAssessmentId());
+    final String key = assessmentKey(request, model.getAssessmentId());
+    if (AssessmentCache.isMissing(key, ApiInvoker.operationName(getAssessmentRequest))) {
+      throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getAssessmentId());
+    }
+    Assessment assessment = AssessmentCache.get(key);
+    if (assessment != null) {
+      logger.log(String.format("%s [%s] retrieved from cache", ResourceModel.TYPE_NAME, model.getAssessmentId()));
+    } else {
+      try {
+        final ApiInvoker invoker = apiInvoker(proxy, request);
+        final Hedger hedger = HedgedReads.forRegion(request.getRegion());
+        if (hedger == null) {
+          assessment = invoker.invoke(getAssessmentRequest, withCredentials ->
+              CoalescedReads.getAssessment(key, withCredentials, proxyClient.client()::getAssessment)).assessment();
+        } else {
+          // GetAssessment is idempotent, a slow call is hedged with a second one over the async client
+          final ProxyClient<AuditManagerAsyncClient> asyncProxyClient = asyncProxyClient(proxy, request);
+          final AtomicInteger attempts = new AtomicInteger();
+          assessment = Futures.join(hedger.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+              return invoker.invokeAsync(asyncProxyClient, getAssessmentRequest, withCredentials ->
+                  CoalescedReads.getAssessmentAsync(key, withCredentials, asyncProxyClient.client()::getAssessment));
+            }
+            // hedges are started on the hedger's scheduler thread, they are dropped rather than wait for a permit
+            final CompletableFuture<GetAssessmentResponse> hedge = invoker.invokeAsync(asyncProxyClient,
+                getAssessmentRequest, asyncProxyClient.client()::getAssessment, false);
+            ApiMetrics.increment(ApiInvoker.operationName(getAssessmentRequest), ApiMetrics.HEDGES);
+            return hedge;
+          })).assessment();
+        }
+        logger.log(String.format("%s [%s] retrieved successfully", ResourceModel.TYPE_NAME, model.getAssessmentId()));
+      } catch (RequestDeferredException e) {
+        // Read cannot be handed back as in progress, CloudFormation retries it as throttled
+        throw new CfnThrottlingException(e);
+      } catch (AwsServiceException e) {
+        if (e instanceof ResourceNotFoundException) {
+          AssessmentCache.markMissing(key);
+        }
+        return ExceptionTranslator.translateToCfnException(e, model.getAssessmentId());
+      }
+      AssessmentCache.put(key, assessment);
     }
+    final Assessment readAssessment = assessment;
     return ProgressEvent.<ResourceModel, CallbackContext>builder()
-        .resourceModel(Utils.transformToAssessmentResourceModel(model, getAssessmentResponse.assessment()))
+        .resourceModel(Tracer.trace(Tracer.MAP_RESPONSE_SPAN, () ->
+            Utils.transformToAssessmentResourceModel(model, readAssessment)))
         .status(OperationStatus.SUCCESS)
         .build();
   }
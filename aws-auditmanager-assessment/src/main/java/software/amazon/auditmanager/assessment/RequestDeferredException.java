@@ -0,0 +1,28 @@
+package software.amazon.auditmanager.assessment;
+
+/**
+ * Thrown for a request that cannot be completed within the current invocation, e.g. because the
+ * client-side rate limit does not let it through in time or because too little invocation time is
+ * left. Handlers hand the request back to CloudFormation to be retried after the delay.
+ */
+public class RequestDeferredException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int delaySeconds;
+
+  public RequestDeferredException(final String operation, final String reason, final int delaySeconds) {
+    super(String.format("%s deferred, %s, retry in %d seconds", operation, reason, delaySeconds));
+    this.delaySeconds = delaySeconds;
+  }
+
+  public RequestDeferredException(final String operation, final String reason, final int delaySeconds,
+                                  final Throwable cause) {
+    this(operation, reason, delaySeconds);
+    initCause(cause);
+  }
+
+  public int getDelaySeconds() {
+    return delaySeconds;
+  }
+}
@@ -0,0 +1,27 @@
+package software.amazon.auditmanager.assessment;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * Counts the attempts the SDK makes for each call and records every attempt after the first as a
+ * retry of its operation in {@link ApiMetrics}.
+ */
+public class RetryCountingInterceptor implements ExecutionInterceptor {
+
+  private static final ExecutionAttribute<Integer> ATTEMPTS = new ExecutionAttribute<>("AuditManagerCallAttempts");
+
+  @Override
+  public void beforeTransmission(final Context.BeforeTransmission context,
+                                 final ExecutionAttributes executionAttributes) {
+    final Integer previousAttempts = executionAttributes.getAttribute(ATTEMPTS);
+    final int attempts = previousAttempts == null ? 1 : previousAttempts + 1;
+    executionAttributes.putAttribute(ATTEMPTS, attempts);
+    if (attempts > 1) {
+      ApiMetrics.increment(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME), ApiMetrics.RETRIES);
+    }
+  }
+}
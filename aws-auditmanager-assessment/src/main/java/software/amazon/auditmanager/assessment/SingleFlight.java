@@ -0,0 +1,137 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single call.
+ *
+ * The first caller for a key runs the call, callers arriving while it is in flight wait for it
+ * and receive the same result or exception. Failures that only concern the caller that ran the
+ * call, such as its own deadline, are not shared: callers that joined run the call themselves.
+ * Nothing is kept once the call completes, the next caller for the key starts a new call.
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final Predicate<Throwable> isShared;
+  private final AtomicLong calls = new AtomicLong();
+  private final AtomicLong coalescedCalls = new AtomicLong();
+
+  public SingleFlight() {
+    this(failure -> true);
+  }
+
+  /**
+   * @param isShared tells whether a failure of the call is passed to the callers that joined it
+   */
+  public SingleFlight(final Predicate<Throwable> isShared) {
+    this.isShared = isShared;
+  }
+
+  /**
+   * Runs the call for the key, or joins the call already in flight for it.
+   *
+   * @param key the key identifying equivalent calls
+   * @param call the call to run if none is in flight for the key
+   * @return the result of the call
+   */
+  public V execute(final K key, final Supplier<V> call) {
+    final CompletableFuture<V> own = new CompletableFuture<>();
+    final CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+    if (existing != null) {
+      coalescedCalls.incrementAndGet();
+      try {
+        return Futures.join(existing);
+      } catch (RuntimeException e) {
+        if (isShared.test(Futures.unwrap(e))) throw e;
+      }
+      calls.incrementAndGet();
+      return call.get();
+    }
+    calls.incrementAndGet();
+    try {
+      final V result = call.get();
+      own.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      own.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, own);
+    }
+  }
+
+  /**
+   * Asynchronous variant of {@link #execute}, the call is in flight until the future it returns completes.
+   */
+  public CompletableFuture<V> executeAsync(final K key, final Supplier<CompletableFuture<V>> call) {
+    final CompletableFuture<V> own = new CompletableFuture<>();
+    final CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+    if (existing != null) {
+      coalescedCalls.incrementAndGet();
+      final CompletableFuture<V> joined = new CompletableFuture<>();
+      existing.whenComplete((result, failure) -> {
+        if (failure == null) {
+          joined.complete(result);
+        } else if (isShared.test(Futures.unwrap(failure))) {
+          joined.completeExceptionally(Futures.unwrap(failure));
+        } else {
+          calls.incrementAndGet();
+          forward(start(call), joined);
+        }
+      });
+      return joined;
+    }
+    calls.incrementAndGet();
+    final CompletableFuture<V> started = start(call);
+    started.whenComplete((result, failure) -> inFlight.remove(key, own));
+    forward(started, own);
+    return started;
+  }
+
+  /**
+   * @return the number of calls that were actually run
+   */
+  public long getCalls() {
+    return calls.get();
+  }
+
+  /**
+   * @return the number of callers that joined a call already in flight instead of running their own
+   */
+  public long getCoalescedCalls() {
+    return coalescedCalls.get();
+  }
+
+  public int inFlightSize() {
+    return inFlight.size();
+  }
+
+  private static <V> CompletableFuture<V> start(final Supplier<CompletableFuture<V>> call) {
+    try {
+      return call.get();
+    } catch (RuntimeException e) {
+      final CompletableFuture<V> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      return failed;
+    }
+  }
+
+  private static <V> void forward(final CompletableFuture<V> source, final CompletableFuture<V> target) {
+    source.whenComplete((result, failure) -> {
+      if (failure == null) {
+        target.complete(result);
+      } else {
+        target.completeExceptionally(Futures.unwrap(failure));
+      }
+    });
+  }
+}
@@ -0,0 +1,113 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A timed phase of a handler invocation, started through {@link Tracer}. Ending a span more than once
+ * has no effect, so spans can be ended both on the expected path and in a finally block.
+ */
+public class Span implements AutoCloseable {
+
+  /* Handed out while tracing is disabled, records nothing */
+  static final Span NOOP = new Span(null, null, null, null, null, false);
+
+  private final String name;
+  private final String traceId;
+  private final String spanId;
+  private final String parentSpanId;
+  private final Span previous;
+  private final boolean scoped;
+  private final long startEpochMillis;
+  private final long startNanos;
+  private final Map<String, String> attributes = new LinkedHashMap<>();
+  private final AtomicBoolean ended = new AtomicBoolean();
+  private volatile long durationNanos = -1L;
+
+  Span(final String name, final String traceId, final String spanId, final String parentSpanId,
+       final Span previous, final boolean scoped) {
+    this.name = name;
+    this.traceId = traceId;
+    this.spanId = spanId;
+    this.parentSpanId = parentSpanId;
+    this.previous = previous;
+    this.scoped = scoped;
+    this.startEpochMillis = System.currentTimeMillis();
+    this.startNanos = System.nanoTime();
+  }
+
+  public Span setAttribute(final String key, final Object value) {
+    if (this != NOOP) {
+      synchronized (attributes) {
+        attributes.put(key, String.valueOf(value));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Marks the span as failed with the type of the failure.
+   */
+  public Span recordFailure(final Throwable failure) {
+    return setAttribute("error", failure.getClass().getSimpleName());
+  }
+
+  public void end() {
+    if (this == NOOP || !ended.compareAndSet(false, true)) return;
+    durationNanos = System.nanoTime() - startNanos;
+    Tracer.ended(this);
+  }
+
+  @Override
+  public void close() {
+    end();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getTraceId() {
+    return traceId;
+  }
+
+  public String getSpanId() {
+    return spanId;
+  }
+
+  /**
+   * @return the id of the enclosing span, or null for the root span of a trace
+   */
+  public String getParentSpanId() {
+    return parentSpanId;
+  }
+
+  public long getStartEpochMillis() {
+    return startEpochMillis;
+  }
+
+  /**
+   * @return the duration of the span, or -1 while it has not ended
+   */
+  public long getDurationMicros() {
+    final long duration = durationNanos;
+    return duration < 0 ? -1L : TimeUnit.NANOSECONDS.toMicros(duration);
+  }
+
+  public Map<String, String> getAttributes() {
+    synchronized (attributes) {
+      return Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+    }
+  }
+
+  boolean isScoped() {
+    return scoped;
+  }
+
+  Span getPrevious() {
+    return previous;
+  }
+}
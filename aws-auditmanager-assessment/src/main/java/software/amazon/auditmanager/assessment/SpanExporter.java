@@ -0,0 +1,9 @@
+package software.amazon.auditmanager.assessment;
+
+/**
+ * Receives every span as it ends. Exporters are called on the thread ending the span and must not throw.
+ */
+public interface SpanExporter {
+
+  void export(Span span);
+}
@@ -0,0 +1,39 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Wall-clock budget of a single handler invocation, measured from its creation.
+ */
+public class TimeBudget {
+
+  private final long budgetNanos;
+  private final long startNanos;
+  private final LongSupplier nanoClock;
+
+  public TimeBudget(final long budgetMillis, final LongSupplier nanoClock) {
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    this.nanoClock = nanoClock;
+    this.startNanos = nanoClock.getAsLong();
+  }
+
+  public static TimeBudget startingNow(final long budgetMillis) {
+    return new TimeBudget(budgetMillis, System::nanoTime);
+  }
+
+  public long elapsedMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - startNanos);
+  }
+
+  public long remainingMillis() {
+    return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(budgetNanos - (nanoClock.getAsLong() - startNanos)));
+  }
+
+  /**
+   * @return true if an operation expected to take the given time still fits in the budget
+   */
+  public boolean fits(final long expectedMillis) {
+    return remainingMillis() > expectedMillis;
+  }
+}
@@ -0,0 +1,63 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe token bucket: holds up to a fixed number of tokens and is refilled at a constant rate.
+ * A call takes one token, so the bucket lets a burst of its capacity through and then paces calls
+ * to the refill rate.
+ */
+public class TokenBucket {
+
+  private final double capacity;
+  private final double tokensPerNano;
+  private final LongSupplier nanoClock;
+  private double tokens;
+  private long refilledAtNanos;
+
+  public TokenBucket(final double permitsPerSecond, final int capacity) {
+    this(permitsPerSecond, capacity, System::nanoTime);
+  }
+
+  public TokenBucket(final double permitsPerSecond, final int capacity, final LongSupplier nanoClock) {
+    if (!(permitsPerSecond > 0)) {
+      throw new IllegalArgumentException("permitsPerSecond must be positive");
+    }
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    this.capacity = capacity;
+    this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+    this.nanoClock = nanoClock;
+    this.tokens = capacity;
+    this.refilledAtNanos = nanoClock.getAsLong();
+  }
+
+  /**
+   * Takes a token if one is available.
+   *
+   * @return 0 if a token was taken, otherwise the time in nanoseconds until one will be available
+   */
+  public synchronized long tryAcquire() {
+    refill();
+    if (tokens >= 1d) {
+      tokens -= 1d;
+      return 0L;
+    }
+    return Math.max(1L, (long) Math.ceil((1d - tokens) / tokensPerNano));
+  }
+
+  public synchronized double availableTokens() {
+    refill();
+    return tokens;
+  }
+
+  private void refill() {
+    final long now = nanoClock.getAsLong();
+    if (now > refilledAtNanos) {
+      tokens = Math.min(capacity, tokens + (now - refilledAtNanos) * tokensPerNano);
+      refilledAtNanos = now;
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package software.amazon.auditmanager.assessment;
+
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Lightweight tracing of the phases of a handler invocation: validation, translation, the Audit Manager
+ * calls with their credential injection and SDK call, and response mapping.
+ *
+ * A span started with {@link #start} becomes the current span of its thread until it ends, spans started
+ * meanwhile on that thread are its children. Spans of asynchronous work are started with
+ * {@link #startDetached} under an explicit parent and may end on any thread. Ended spans are handed to
+ * the exporter. Tracing is disabled, at the cost of a thread-local lookup per span, unless an exporter
+ * is configured.
+ */
+final class Tracer {
+
+  static final String VALIDATE_SPAN = "Validate";
+  static final String TRANSLATE_SPAN = "Translate";
+  static final String MAP_RESPONSE_SPAN = "MapResponse";
+
+  private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+  private static volatile SpanExporter exporter;
+
+  static {
+    configure(HandlerSettings.fromEnvironment());
+  }
+
+  private Tracer() {
+  }
+
+  /**
+   * Starts a child of the current span, or a new trace, that is the current span until it ends. It must be
+   * ended on the thread that started it.
+   */
+  static Span start(final String name) {
+    if (exporter == null) return Span.NOOP;
+    final Span parent = CURRENT.get();
+    final Span span = newSpan(name, parent, true);
+    CURRENT.set(span);
+    return span;
+  }
+
+  /**
+   * Starts a child of the given span, or of the current span if it is null, without making it current.
+   */
+  static Span startDetached(final String name, final Span parent) {
+    if (exporter == null) return Span.NOOP;
+    return newSpan(name, parent == null || parent == Span.NOOP ? CURRENT.get() : parent, false);
+  }
+
+  /**
+   * Runs the work in a span of the given name.
+   */
+  static <T> T trace(final String name, final Supplier<T> work) {
+    final Span span = start(name);
+    try {
+      return work.get();
+    } catch (RuntimeException | Error e) {
+      span.recordFailure(e);
+      throw e;
+    } finally {
+      span.end();
+    }
+  }
+
+  static void run(final String name, final Runnable work) {
+    trace(name, () -> {
+      work.run();
+      return null;
+    });
+  }
+
+  /**
+   * @return the current span of the thread, a span that records nothing if there is none
+   */
+  static Span current() {
+    final Span span = CURRENT.get();
+    return span == null ? Span.NOOP : span;
+  }
+
+  /**
+   * Exports the spans to the file named by the settings, or disables tracing if none is named.
+   */
+  static void configure(final HandlerSettings settings) {
+    final String traceFile = settings.getTraceFile();
+    configure(traceFile == null || traceFile.isEmpty() ? null : new FileSpanExporter(Paths.get(traceFile)));
+  }
+
+  /**
+   * Replaces the exporter, null disables tracing.
+   */
+  static void configure(final SpanExporter spanExporter) {
+    exporter = spanExporter;
+    CURRENT.remove();
+  }
+
+  static void ended(final Span span) {
+    if (span.isScoped() && CURRENT.get() == span) {
+      if (span.getPrevious() == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(span.getPrevious());
+      }
+    }
+    final SpanExporter current = exporter;
+    if (current != null) {
+      current.export(span);
+    }
+  }
+
+  private static Span newSpan(final String name, final Span parent, final boolean scoped) {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final String traceId = parent == null ?
+        String.format("%016x%016x", random.nextLong(), random.nextLong()) : parent.getTraceId();
+    return new Span(name, traceId, String.format("%016x", random.nextLong()),
+        parent == null ? null : parent.getSpanId(), scoped ? CURRENT.get() : null, scoped);
+  }
+}
@@ -0,0 +1,104 @@
+package software.amazon.auditmanager.assessment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, thread-safe cache whose entries expire a fixed time after they were written.
+ *
+ * Expired entries are dropped when they are looked up. When the bound is reached, the least
+ * recently used entry is evicted. Lookups are counted as hits or misses so the effect of the
+ * cache can be measured.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class TtlCache<K, V> {
+
+  private final long ttlNanos;
+  private final LongSupplier nanoClock;
+  private final LinkedHashMap<K, Entry<V>> entries;
+  private long hits;
+  private long misses;
+
+  public TtlCache(final long ttlMillis, final int maxEntries) {
+    this(ttlMillis, maxEntries, System::nanoTime);
+  }
+
+  public TtlCache(final long ttlMillis, final int maxEntries, final LongSupplier nanoClock) {
+    if (ttlMillis < 1) {
+      throw new IllegalArgumentException("ttlMillis must be positive");
+    }
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("maxEntries must be positive");
+    }
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    this.nanoClock = nanoClock;
+    this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * @param key the cache key
+   * @return the value cached for the key, or null if there is none or it expired
+   */
+  public synchronized V get(final K key) {
+    final Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      misses++;
+      return null;
+    }
+    if (nanoClock.getAsLong() - entry.writtenAtNanos >= ttlNanos) {
+      entries.remove(key);
+      misses++;
+      return null;
+    }
+    hits++;
+    return entry.value;
+  }
+
+  public synchronized void put(final K key, final V value) {
+    entries.put(key, new Entry<>(value, nanoClock.getAsLong()));
+  }
+
+  public synchronized void invalidate(final K key) {
+    entries.remove(key);
+  }
+
+  public synchronized void invalidateAll() {
+    entries.clear();
+  }
+
+  /**
+   * @return the number of entries held, including expired entries not looked up since they expired
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  private static final class Entry<V> {
+    private final V value;
+    private final long writtenAtNanos;
+
+    private Entry(final V value, final long writtenAtNanos) {
+      this.value = value;
+      this.writtenAtNanos = writtenAtNanos;
+    }
+  }
+}
@@ -3,6 +3,7 @@ package software.amazon.auditmanager.assessment;
 import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.auditmanager.AuditManagerAsyncClient;
 import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -14,21 +15,25 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotUpdatableException;
 import software.amazon.awssdk.services.auditmanager.model.Assessment;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentRequest;
 import software.amazon.awssdk.services.auditmanager.model.UpdateAssessmentRequest;
 import software.amazon.awssdk.services.auditmanager.model.UpdateAssessmentResponse;
 import software.amazon.awssdk.services.auditmanager.model.UpdateAssessmentStatusRequest;
 import software.amazon.awssdk.services.auditmanager.model.UpdateAssessmentStatusResponse;
 import software.amazon.awssdk.services.auditmanager.model.AssessmentStatus;
+import software.amazon.awssdk.services.auditmanager.model.TagResourceRequest;
+import software.amazon.awssdk.services.auditmanager.model.UntagResourceRequest;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class UpdateHandler extends BaseHandlerStd {
 
   public static final String INACTIVE_ASSESSMENT_STATUS = "INACTIVE";
   protected static final String INACTIVE_ASSESSMENT_ERROR_MESSAGE = "Assessment already in INACTIVE state";
-  protected static final String MULTIPLE_UPDATES_ERROR_MESSAGE =
-      "Updating assessment metadata and status cannot be coupled";
 
   private Logger logger;
 
@@ -41,82 +46,183 @@ public class UpdateHandler extends BaseHandlerStd {
       final Logger logger) {
     this.logger = logger;
 
+    final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
     final ResourceModel currentModel = request.getDesiredResourceState();
     final ResourceModel previousModel = request.getPreviousResourceState();
 
     /* Update-able fields are status of assessment, name, description
-     * scope, roles, assessment reports destination
+     * scope, roles, assessment reports destination and tags
      */
-    verifyNonUpdatableFields(currentModel, previousModel);
-    verifyAssessmentStatus(currentModel, previousModel);
+    Tracer.run(Tracer.VALIDATE_SPAN, () -> {
+      verifyNonUpdatableFields(currentModel, previousModel);
+      verifyAssessmentStatus(previousModel);
+    });
+    final AssessmentDiff diff =
+        Tracer.trace(Tracer.TRANSLATE_SPAN, () -> new AssessmentDiff(previousModel, currentModel));
 
+    /* Metadata and tags are applied first, the tag calls being independent of UpdateAssessment they
+     * run while it is in flight. The status is changed last. Each completed step is recorded in the
+     * callback context, so an update handed back to CloudFormation part way through (e.g. when
+     * throttled) resumes with the first step that has not been applied yet.
+     */
+    final ApiInvoker invoker = apiInvoker(proxy, request);
     try {
-      final Assessment outputAssessment = updateAssessment(currentModel, proxy, proxyClient);
+      final CompletableFuture<Void> tagUpdate = context.isTagsUpdated() || !diff.hasTagChanges() ?
+          CompletableFuture.completedFuture(null) :
+          updateTags(currentModel, previousModel, diff, invoker, proxyClient, asyncProxyClient(proxy, request));
+      Assessment outputAssessment = null;
+      try {
+        if (!context.isMetadataUpdated()) {
+          outputAssessment = updateAssessmentMetadata(diff, invoker, proxyClient);
+          context.setMetadataUpdated(true);
+        }
+      } catch (AwsServiceException | RequestDeferredException e) {
+        // let the tag calls settle so that a retry knows whether they have to be repeated
+        awaitTagUpdate(tagUpdate, context);
+        throw e;
+      }
+      Futures.join(tagUpdate);
+      context.setTagsUpdated(true);
+      if (isDeactivation(currentModel)) {
+        outputAssessment = updateAssessmentStatus(currentModel, invoker, proxyClient);
+      }
+      if (outputAssessment == null) {
+        if (!diff.hasMetadataChanges() && !diff.hasTagChanges()) {
+          logger.log(String.format("%s [%s] has no updatable changes, skipping update",
+              ResourceModel.TYPE_NAME, currentModel.getAssessmentId()));
+        }
+        return ProgressEvent.defaultSuccessHandler(currentModel);
+      }
+      final Assessment updatedAssessment = outputAssessment;
+      final ResourceModel outputModel = Tracer.trace(Tracer.MAP_RESPONSE_SPAN, () ->
+          Utils.transformToAssessmentResourceModel(currentModel, updatedAssessment));
+      if (diff.hasTagChanges()) {
+        // the assessment returned by UpdateAssessment may predate the tag calls
+        outputModel.setTags(currentModel.getTags());
+      }
       return ProgressEvent.<ResourceModel, CallbackContext>builder()
-          .resourceModel(Utils.transformToAssessmentResourceModel(currentModel, outputAssessment))
+          .resourceModel(outputModel)
           .status(OperationStatus.SUCCESS)
           .build();
+    } catch (RequestDeferredException e) {
+      return ProgressEvent.defaultInProgressHandler(context, e.getDelaySeconds(), currentModel);
     } catch (AwsServiceException e) {
-      return ExceptionTranslator.translateToCfnException(e, currentModel.getAssessmentId());
+      return ExceptionTranslator.translateToCfnException(e, currentModel.getAssessmentId(), currentModel, context);
+    } finally {
+      // part of the update may have been applied even when it failed
+      AssessmentCache.invalidate(assessmentKey(request, currentModel.getAssessmentId()));
     }
 
   }
 
-  private Assessment updateAssessment(
+  private boolean isDeactivation(final ResourceModel currentModel) {
+    return currentModel != null
+        && currentModel.getStatus() != null
+        && currentModel.getStatus().equals(INACTIVE_ASSESSMENT_STATUS);
+  }
+
+  private Assessment updateAssessmentStatus(
       final ResourceModel currentModel,
-      final AmazonWebServicesClientProxy proxy,
+      final ApiInvoker invoker,
       final ProxyClient<AuditManagerClient> proxyClient) {
-    if (currentModel != null
-        && currentModel.getStatus() != null
-        && currentModel.getStatus().equals(INACTIVE_ASSESSMENT_STATUS)) {
-      final UpdateAssessmentStatusRequest updateAssessmentStatusRequest = UpdateAssessmentStatusRequest.builder()
-          .assessmentId(currentModel.getAssessmentId())
-          .status(AssessmentStatus.INACTIVE)
+    final UpdateAssessmentStatusRequest updateAssessmentStatusRequest = UpdateAssessmentStatusRequest.builder()
+        .assessmentId(currentModel.getAssessmentId())
+        .status(AssessmentStatus.INACTIVE)
+        .build();
+    UpdateAssessmentStatusResponse updateAssessmentStatusResponse =
+        invoker.invoke(updateAssessmentStatusRequest, proxyClient.client()::updateAssessmentStatus);
+    return updateAssessmentStatusResponse.assessment();
+  }
+
+  /**
+   * Sends the metadata attributes that differ from the previous model.
+   *
+   * @return the updated assessment, or null if nothing needed to be sent
+   */
+  private Assessment updateAssessmentMetadata(
+      final AssessmentDiff diff,
+      final ApiInvoker invoker,
+      final ProxyClient<AuditManagerClient> proxyClient) {
+    final UpdateAssessmentRequest updateAssessmentRequest = diff.toUpdateAssessmentRequest();
+    if (updateAssessmentRequest == null) {
+      return null;
+    }
+    UpdateAssessmentResponse updateAssessmentResponse =
+        invoker.invoke(updateAssessmentRequest, proxyClient.client()::updateAssessment);
+    return updateAssessmentResponse.assessment();
+  }
+
+  /**
+   * Applies the tag difference in place, with at most one UntagResource and one TagResource call.
+   * The removed and added keys are disjoint, so both calls are made concurrently.
+   */
+  private CompletableFuture<Void> updateTags(
+      final ResourceModel currentModel,
+      final ResourceModel previousModel,
+      final AssessmentDiff diff,
+      final ApiInvoker invoker,
+      final ProxyClient<AuditManagerClient> proxyClient,
+      final ProxyClient<AuditManagerAsyncClient> asyncProxyClient) {
+    final String assessmentArn = assessmentArn(currentModel, previousModel, invoker, proxyClient);
+
+    CompletableFuture<?> untagResource = CompletableFuture.completedFuture(null);
+    final List<String> tagKeysToRemove = diff.getTagKeysToRemove();
+    if (!tagKeysToRemove.isEmpty()) {
+      final UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder()
+          .resourceArn(assessmentArn)
+          .tagKeys(tagKeysToRemove)
           .build();
-      UpdateAssessmentStatusResponse updateAssessmentStatusResponse =
-          proxy.injectCredentialsAndInvokeV2(updateAssessmentStatusRequest,
-              proxyClient.client()::updateAssessmentStatus);
-      return updateAssessmentStatusResponse.assessment();
-
-    } else {
-      final UpdateAssessmentRequest updateAssessmentRequest = UpdateAssessmentRequest.builder()
-          .assessmentId(currentModel.getAssessmentId())
-          .scope(AssessmentMetadataUtils.cfnScopeToSdkScope(currentModel.getScope()))
-          //optional attributes
-          .assessmentDescription((currentModel.getDescription() != null) ? currentModel.getDescription() : null)
-          .assessmentName((currentModel.getName() != null) ? currentModel.getName() : null)
-          .roles((currentModel.getRoles() != null) ?
-              AssessmentMetadataUtils.cfnRoleToSdkRoles(currentModel.getRoles()) : null)
+      untagResource = invoker.invokeAsync(asyncProxyClient, untagResourceRequest,
+          asyncProxyClient.client()::untagResource);
+    }
+    CompletableFuture<?> tagResource = CompletableFuture.completedFuture(null);
+    final Map<String, String> tagsToAdd = diff.getTagsToAdd();
+    if (!tagsToAdd.isEmpty()) {
+      final TagResourceRequest tagResourceRequest = TagResourceRequest.builder()
+          .resourceArn(assessmentArn)
+          .tags(tagsToAdd)
           .build();
+      tagResource = invoker.invokeAsync(asyncProxyClient, tagResourceRequest,
+          asyncProxyClient.client()::tagResource);
+    }
+    return CompletableFuture.allOf(untagResource, tagResource);
+  }
 
-      UpdateAssessmentResponse updateAssessmentResponse =
-          proxy.injectCredentialsAndInvokeV2(updateAssessmentRequest, proxyClient.client()::updateAssessment);
-      return updateAssessmentResponse.assessment();
+  /**
+   * Arn is read only, CloudFormation does not guarantee it in either model of an update. The assessment
+   * is read to get it when both lack it.
+   */
+  private String assessmentArn(
+      final ResourceModel currentModel,
+      final ResourceModel previousModel,
+      final ApiInvoker invoker,
+      final ProxyClient<AuditManagerClient> proxyClient) {
+    if (currentModel.getArn() != null) {
+      return currentModel.getArn();
+    }
+    if (previousModel != null && previousModel.getArn() != null) {
+      return previousModel.getArn();
     }
+    final GetAssessmentRequest getAssessmentRequest =
+        GetAssessmentRequest.builder().assessmentId(currentModel.getAssessmentId()).build();
+    return invoker.invoke(getAssessmentRequest, proxyClient.client()::getAssessment).assessment().arn();
   }
 
-  private void verifyAssessmentStatus(final ResourceModel currentModel, final ResourceModel previousModel) {
+  private void awaitTagUpdate(final CompletableFuture<Void> tagUpdate, final CallbackContext context) {
+    try {
+      Futures.join(tagUpdate);
+      context.setTagsUpdated(true);
+    } catch (RuntimeException e) {
+      logger.log(String.format("Tag update failed as well: %s", e.getMessage()));
+    }
+  }
+
+  private void verifyAssessmentStatus(final ResourceModel previousModel) {
     if (previousModel != null
         && previousModel.getStatus() != null
         && previousModel.getStatus().toString().equals(INACTIVE_ASSESSMENT_STATUS)) {
       throw new CfnInvalidRequestException(INACTIVE_ASSESSMENT_ERROR_MESSAGE);
     }
-    if (currentModel != null
-        && previousModel != null
-        && currentModel.getStatus() != null
-        && currentModel.getStatus().toString().equals(INACTIVE_ASSESSMENT_STATUS)
-        && ((!Optional.ofNullable(currentModel.getName())
-          .equals(Optional.ofNullable(previousModel.getName())))
-          || (!Optional.ofNullable(currentModel.getDescription())
-          .equals(Optional.ofNullable(previousModel.getDescription())))
-          || (!Optional.ofNullable(currentModel.getScope())
-          .equals(Optional.ofNullable(previousModel.getScope())))
-          || (!Optional.ofNullable(currentModel.getRoles())
-          .equals(Optional.ofNullable(previousModel.getRoles())))
-          || (!Optional.ofNullable(currentModel.getAssessmentReportsDestination())
-          .equals(Optional.ofNullable(previousModel.getAssessmentReportsDestination()))))) {
-      throw new CfnInvalidRequestException(MULTIPLE_UPDATES_ERROR_MESSAGE);
-    }
   }
 
   /**
@@ -139,10 +245,6 @@ public class UpdateHandler extends BaseHandlerStd {
           .equals(Optional.ofNullable(previousModel.getAwsAccount()))) {
         throw new CfnNotUpdatableException(ResourceModel.TYPE_NAME, "AWS Account");
       }
-      if (!Optional.ofNullable(currentModel.getTags())
-          .equals(Optional.ofNullable(previousModel.getTags()))) {
-        throw new CfnNotUpdatableException(ResourceModel.TYPE_NAME, "Tags");
-      }
       if (!Optional.ofNullable(currentModel.getArn())
           .equals(Optional.ofNullable(previousModel.getArn()))) {
         throw new CfnNotUpdatableException(ResourceModel.TYPE_NAME, "Assessment ARN");
@@ -1,10 +1,7 @@
 package software.amazon.auditmanager.assessment;
 
-import org.joda.time.DateTime;
-import org.joda.time.DateTimeZone;
-
-import java.time.format.DateTimeParseException;
 import software.amazon.awssdk.services.auditmanager.model.AssessmentMetadata;
+import software.amazon.awssdk.services.auditmanager.model.AssessmentMetadataItem;
 import software.amazon.awssdk.services.auditmanager.model.AssessmentFramework;
 import software.amazon.awssdk.services.auditmanager.model.Assessment;
 import software.amazon.awssdk.services.auditmanager.model.CreateAssessmentRequest;
@@ -17,45 +14,46 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.stream.Collectors;
 import java.time.Instant;
 
 public class Utils {
 
   public static List<software.amazon.auditmanager.assessment.Tag> sdkTagsToCfnTags(final Map<String, String> tags) {
     if (tags == null || tags.isEmpty()) return null;
-    final List<software.amazon.auditmanager.assessment.Tag> cfnTags =
-        tags.entrySet().stream()
-            .map(e -> Tag.builder().key(e.getKey()).value(e.getValue()).build())
-            .collect(Collectors.toList());
+    final List<software.amazon.auditmanager.assessment.Tag> cfnTags = new ArrayList<>(tags.size());
+    for (final Map.Entry<String, String> tag : tags.entrySet()) {
+      cfnTags.add(Tag.builder().key(tag.getKey()).value(tag.getValue()).build());
+    }
     return cfnTags;
   }
 
   public static Map<String, String> cfnTagsToSdkTags(final List<software.amazon.auditmanager.assessment.Tag> tags) {
-    Map<String, String> tagsMap = new HashMap<>();
     if(tags == null || tags.isEmpty()) {
       return null;
     }
+    // sized so that the map never rehashes at the default load factor
+    Map<String, String> tagsMap = new HashMap<>(tags.size() * 4 / 3 + 1);
     for (Tag tag : tags) {
       tagsMap.put(tag.getKey(), tag.getValue());
     }
     return tagsMap;
   }
 
+  /**
+   * Converts epoch seconds, with the milliseconds as fraction, to an instant.
+   * Rounding to the nearest millisecond undoes the binary representation error of the fraction.
+   */
   public static Instant translateDoubleToInstant(final Double inputDate) {
     if (inputDate == null) return null;
-    try {
-      return new Date((long) (inputDate * 1000L)).toInstant();
-    } catch (final DateTimeParseException e) {
-      return new DateTime(inputDate, DateTimeZone.UTC).toDate().toInstant();
-    }
+    return Instant.ofEpochMilli(Math.round(inputDate * 1000d));
   }
 
+  /**
+   * Converts an instant to epoch seconds, keeping the milliseconds as fraction.
+   */
   public static Double translateInstantToDouble(final Instant inputDateInstant) {
     if (inputDateInstant == null) return null;
-    final Date outputDate = Date.from(inputDateInstant);
-    return Double.valueOf(outputDate.getTime()/1000);
+    return inputDateInstant.toEpochMilli() / 1000d;
   }
 
   public static ResourceModel transformToAssessmentResourceModel(final ResourceModel inputModel,
@@ -100,18 +98,34 @@ public class Utils {
   public static List<ResourceModel> transformToListAssessmentsResponse(
       final ListAssessmentsResponse listAssessmentsResponse) {
     if (listAssessmentsResponse == null || listAssessmentsResponse.assessmentMetadata() == null) return null;
-    return listAssessmentsResponse.assessmentMetadata()
-        .stream()
-        .map(assessmentMetadata -> ResourceModel.builder()
-            .assessmentId(assessmentMetadata.id())
-            .roles(
-                AssessmentMetadataUtils.transformToCfnRoles(assessmentMetadata.roles()))
-            .name(assessmentMetadata.name())
-            .delegations(
-                AssessmentMetadataUtils.transformToCfnDelegations(assessmentMetadata.delegations()))
-            .creationTime(translateInstantToDouble(assessmentMetadata.creationTime()))
-            .status(assessmentMetadata.statusAsString())
-            .build())
-        .collect(Collectors.toList());
+    final List<AssessmentMetadataItem> items = listAssessmentsResponse.assessmentMetadata();
+    final List<ResourceModel> models = new ArrayList<>(items.size());
+    for (final AssessmentMetadataItem assessmentMetadata : items) {
+      models.add(ResourceModel.builder()
+          .assessmentId(assessmentMetadata.id())
+          .roles(
+              AssessmentMetadataUtils.transformToCfnRoles(assessmentMetadata.roles()))
+          .name(assessmentMetadata.name())
+          .delegations(
+              AssessmentMetadataUtils.transformToCfnDelegations(assessmentMetadata.delegations()))
+          .creationTime(translateInstantToDouble(assessmentMetadata.creationTime()))
+          .status(assessmentMetadata.statusAsString())
+          .build());
+    }
+    return models;
+  }
+
+  /**
+   * Builds identifier-only resource models, without translating the other fields of the list response.
+   */
+  public static List<ResourceModel> transformToAssessmentIdentifiers(
+      final ListAssessmentsResponse listAssessmentsResponse) {
+    if (listAssessmentsResponse == null || listAssessmentsResponse.assessmentMetadata() == null) return null;
+    final List<AssessmentMetadataItem> items = listAssessmentsResponse.assessmentMetadata();
+    final List<ResourceModel> models = new ArrayList<>(items.size());
+    for (final AssessmentMetadataItem assessmentMetadata : items) {
+      models.add(ResourceModel.builder().assessmentId(assessmentMetadata.id()).build());
+    }
+    return models;
   }
 }
@@ -21,11 +21,14 @@ import software.amazon.awssdk.services.auditmanager.model.Scope;
 import software.amazon.awssdk.services.auditmanager.model.AWSAccount;
 import software.amazon.awssdk.services.auditmanager.model.AWSService;
 import software.amazon.awssdk.services.auditmanager.model.AssessmentReportsDestination;
+import software.amazon.awssdk.services.auditmanager.model.AuditManagerException;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.auditmanager.AuditManagerAsyncClient;
 import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
@@ -80,6 +83,7 @@ public class AbstractTestBase {
   protected static final String ACCOUNT_ID = "111111111111";
   protected static final String ACCOUNT_NAME = "testName";
   protected static final String ACCOUNT_EMAIL_ADDRESS = "test@gmail.com";
+  protected static final String REGION = "us-west-2";
   protected static final Credentials MOCK_CREDENTIALS;
   protected static final LoggerProxy logger;
 
@@ -131,6 +135,59 @@ public class AbstractTestBase {
     };
   }
 
+  public static ProxyClient<AuditManagerAsyncClient> MOCK_ASYNC_PROXY(
+      final AmazonWebServicesClientProxy proxy,
+      final AuditManagerAsyncClient asyncSdkClient) {
+    return new ProxyClient<AuditManagerAsyncClient>() {
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+      injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+      injectCredentialsAndInvokeV2Async(
+          RequestT request, Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        return proxy.injectCredentialsAndInvokeV2Async(request, requestFunction);
+      }
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+      injectCredentialsAndInvokeIterableV2(RequestT requestT, Function<RequestT, IterableT> function) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+      injectCredentialsAndInvokeV2InputStream(RequestT requestT, Function<RequestT, ResponseInputStream<ResponseT>> function) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+      injectCredentialsAndInvokeV2Bytes(RequestT requestT, Function<RequestT, ResponseBytes<ResponseT>> function) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public AuditManagerAsyncClient client() {
+        return asyncSdkClient;
+      }
+    };
+  }
+
+  public static <T> CompletableFuture<T> failedFuture(final Throwable failure) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(failure);
+    return future;
+  }
+
+  public static AwsServiceException makeThrottlingException() {
+    return AuditManagerException.builder().statusCode(429).message("Rate exceeded").build();
+  }
+
   public static Map<String, String> makeTags() {
     return TAGS_TO_ADD;
   }
@@ -0,0 +1,232 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.services.auditmanager.AuditManagerAsyncClient;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.auditmanager.model.Assessment;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentRequest;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentResponse;
+import software.amazon.awssdk.services.auditmanager.model.InternalServerException;
+import software.amazon.awssdk.services.auditmanager.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+public class ApiMetricsTest extends AbstractTestBase {
+
+  private static final String NAMESPACE = "AuditManager/Assessment";
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final List<String> lines = new ArrayList<>();
+
+  @BeforeEach
+  public void setup() {
+    ApiMetrics.configure(HandlerSettings.builder().metricsNamespace(NAMESPACE).build());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ApiMetrics.configure(HandlerSettings.defaults());
+  }
+
+  @Test
+  public void testPublish_shouldLogEmbeddedMetricsPerOperationAndOutcome() throws Exception {
+    ApiMetrics.recordCall("GetAssessment", TimeUnit.MILLISECONDS.toNanos(12), null);
+    ApiMetrics.recordCall("GetAssessment", TimeUnit.MILLISECONDS.toNanos(30), null);
+    ApiMetrics.recordCall("GetAssessment", TimeUnit.MILLISECONDS.toNanos(8),
+        ResourceNotFoundException.builder().statusCode(404).build());
+
+    ApiMetrics.publish(lines::add);
+
+    assertThat(lines).hasSize(2);
+    final JsonNode notFound = MAPPER.readTree(lines.get(0));
+    assertThat(notFound.get("Operation").asText()).isEqualTo("GetAssessment");
+    assertThat(notFound.get("Outcome").asText()).isEqualTo("NotFound");
+    assertThat(notFound.get("Calls").asLong()).isEqualTo(1L);
+    final JsonNode success = MAPPER.readTree(lines.get(1));
+    assertThat(success.get("Outcome").asText()).isEqualTo(ApiMetrics.SUCCESS);
+    assertThat(success.get("Calls").asLong()).isEqualTo(2L);
+    assertThat(success.get("Latency").get(0).asDouble()).isEqualTo(12d);
+    assertThat(success.get("Latency").get(1).asDouble()).isEqualTo(30d);
+
+    final JsonNode directive = success.get("_aws").get("CloudWatchMetrics").get(0);
+    assertThat(directive.get("Namespace").asText()).isEqualTo(NAMESPACE);
+    assertThat(directive.get("Dimensions").toString()).isEqualTo("[[\"Operation\"],[\"Operation\",\"Outcome\"]]");
+    assertThat(directive.get("Metrics").get(0).get("Unit").asText()).isEqualTo("Milliseconds");
+    assertThat(success.get("_aws").get("Timestamp").asLong()).isPositive();
+
+    // published metrics are not published again
+    lines.clear();
+    ApiMetrics.publish(lines::add);
+    assertThat(lines).isEmpty();
+  }
+
+  @Test
+  public void testPublish_manyCalls_shouldSplitLatenciesAcrossDocuments() throws Exception {
+    for (int i = 0; i < 150; i++) {
+      ApiMetrics.recordCall("ListAssessments", TimeUnit.MILLISECONDS.toNanos(i), null);
+    }
+
+    ApiMetrics.publish(lines::add);
+
+    assertThat(lines).hasSize(2);
+    assertThat(MAPPER.readTree(lines.get(0)).get("Latency").size()).isEqualTo(100);
+    assertThat(MAPPER.readTree(lines.get(0)).get("Calls").asLong()).isEqualTo(150L);
+    assertThat(MAPPER.readTree(lines.get(1)).get("Latency").size()).isEqualTo(50);
+    assertThat(MAPPER.readTree(lines.get(1)).has("Calls")).isFalse();
+  }
+
+  @Test
+  public void testPublish_disabled_shouldLogNothing() {
+    ApiMetrics.configure(HandlerSettings.defaults());
+    ApiMetrics.recordCall("GetAssessment", 1L, null);
+
+    ApiMetrics.publish(lines::add);
+
+    assertThat(lines).isEmpty();
+  }
+
+  @Test
+  public void testRetryCountingInterceptor_shouldCountAttemptsAfterTheFirst() throws Exception {
+    final RetryCountingInterceptor interceptor = new RetryCountingInterceptor();
+    final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+    executionAttributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, "GetAssessment");
+
+    for (int attempt = 0; attempt < 3; attempt++) {
+      interceptor.beforeTransmission(null, executionAttributes);
+    }
+    interceptor.beforeTransmission(null, new ExecutionAttributes()
+        .putAttribute(SdkExecutionAttribute.OPERATION_NAME, "GetAssessment"));
+    ApiMetrics.publish(lines::add);
+
+    assertThat(lines).hasSize(1);
+    final JsonNode counters = MAPPER.readTree(lines.get(0));
+    assertThat(counters.has("Outcome")).isFalse();
+    assertThat(counters.get(ApiMetrics.RETRIES).asLong()).isEqualTo(2L);
+  }
+
+  @Test
+  public void testAssessmentCache_shouldCountLookupsUnderTheSavedOperation() throws Exception {
+    AssessmentCache.configure(HandlerSettings.builder()
+        .readCacheTtlMillis(60_000L).notFoundCacheTtlMillis(60_000L).build());
+    try {
+      AssessmentCache.put("hit", Assessment.builder().build());
+      AssessmentCache.markMissing("missing");
+
+      AssessmentCache.get("hit");
+      AssessmentCache.get("miss");
+      AssessmentCache.get("miss");
+      AssessmentCache.isMissing("missing", "DeleteAssessment");
+      AssessmentCache.isMissing("hit", "DeleteAssessment");
+      ApiMetrics.publish(lines::add);
+    } finally {
+      AssessmentCache.configure(HandlerSettings.defaults());
+    }
+
+    assertThat(lines).hasSize(2);
+    final JsonNode first = MAPPER.readTree(lines.get(0));
+    final JsonNode delete = first.get("Operation").asText().equals("DeleteAssessment") ?
+        first : MAPPER.readTree(lines.get(1));
+    final JsonNode get = delete == first ? MAPPER.readTree(lines.get(1)) : first;
+    assertThat(delete.get(ApiMetrics.NOT_FOUND_CACHE_HITS).asLong()).isEqualTo(1L);
+    assertThat(delete.get(ApiMetrics.NOT_FOUND_CACHE_MISSES).asLong()).isEqualTo(1L);
+    assertThat(get.get("Operation").asText()).isEqualTo("GetAssessment");
+    assertThat(get.get(ApiMetrics.CACHE_HITS).asLong()).isEqualTo(1L);
+    assertThat(get.get(ApiMetrics.CACHE_MISSES).asLong()).isEqualTo(2L);
+  }
+
+  @Test
+  public void testApiInvoker_circuitBreakerTransitions_shouldBeCountedPerRegion() throws Exception {
+    ApiInvoker.configure(HandlerSettings.builder()
+        .circuitBreakerFailureRatePercent(50).circuitBreakerWindowSize(2).circuitBreakerMinimumCalls(1).build());
+    try {
+      final AmazonWebServicesClientProxy proxy =
+          new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+      final ApiInvoker invoker = new ApiInvoker(proxy, ACCOUNT_ID, REGION);
+      final GetAssessmentRequest request = GetAssessmentRequest.builder().assessmentId(ASSESSMENT_ID).build();
+
+      assertThatExceptionOfType(InternalServerException.class).isThrownBy(() ->
+          invoker.invoke(request, getAssessmentRequest -> {
+            throw InternalServerException.builder().statusCode(500).build();
+          }));
+      ApiMetrics.publish(lines::add);
+    } finally {
+      ApiInvoker.configure(HandlerSettings.defaults());
+    }
+
+    // regions are published after the operations
+    final JsonNode transitions = MAPPER.readTree(lines.get(lines.size() - 1));
+    assertThat(transitions.get(ApiMetrics.REGION_DIMENSION).asText()).isEqualTo(REGION);
+    assertThat(transitions.has(ApiMetrics.OPERATION_DIMENSION)).isFalse();
+    assertThat(transitions.get("CircuitBreakerClosedToOpen").asLong()).isEqualTo(1L);
+    assertThat(transitions.get("_aws").get("CloudWatchMetrics").get(0).get("Dimensions").toString())
+        .isEqualTo("[[\"Region\"]]");
+  }
+
+  @Test
+  public void testApiInvoker_asyncWithoutWaiting_shouldRejectRatherThanWaitForPermit() {
+    ApiInvoker.configure(HandlerSettings.builder()
+        .rateLimitPerSecond(1).rateLimitBurst(1).rateLimitMaxWaitMillis(60_000L).build());
+    try {
+      final AmazonWebServicesClientProxy proxy =
+          new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+      final ProxyClient<AuditManagerAsyncClient> asyncProxyClient =
+          MOCK_ASYNC_PROXY(proxy, mock(AuditManagerAsyncClient.class));
+      final ApiInvoker invoker = new ApiInvoker(proxy, ACCOUNT_ID, REGION);
+      final GetAssessmentRequest request = GetAssessmentRequest.builder().assessmentId(ASSESSMENT_ID).build();
+
+      assertThat(invoker.invokeAsync(asyncProxyClient, request,
+          getAssessmentRequest -> CompletableFuture.completedFuture(GetAssessmentResponse.builder().build())).join())
+          .isNotNull();
+      // waiting would have let the call through after a second
+      assertThatExceptionOfType(RequestDeferredException.class).isThrownBy(() ->
+          invoker.invokeAsync(asyncProxyClient, request,
+              getAssessmentRequest -> CompletableFuture.completedFuture(GetAssessmentResponse.builder().build()),
+              false));
+    } finally {
+      ApiInvoker.configure(HandlerSettings.defaults());
+    }
+  }
+
+  @Test
+  public void testApiInvoker_shouldRecordCallsAndRejections() throws Exception {
+    ApiInvoker.configure(HandlerSettings.builder()
+        .rateLimitPerSecond(1).rateLimitBurst(2).rateLimitMaxWaitMillis(1L).build());
+    try {
+      final AmazonWebServicesClientProxy proxy =
+          new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+      final ApiInvoker invoker = new ApiInvoker(proxy, ACCOUNT_ID, REGION);
+      final GetAssessmentRequest request = GetAssessmentRequest.builder().assessmentId(ASSESSMENT_ID).build();
+
+      invoker.invoke(request, getAssessmentRequest -> GetAssessmentResponse.builder().build());
+      assertThatExceptionOfType(ResourceNotFoundException.class).isThrownBy(() ->
+          invoker.invoke(request, getAssessmentRequest -> {
+            throw ResourceNotFoundException.builder().statusCode(404).build();
+          }));
+      assertThatExceptionOfType(RequestDeferredException.class).isThrownBy(() ->
+          invoker.invoke(request, getAssessmentRequest -> GetAssessmentResponse.builder().build()));
+      ApiMetrics.publish(lines::add);
+    } finally {
+      ApiInvoker.configure(HandlerSettings.defaults());
+    }
+
+    assertThat(lines).hasSize(3);
+    assertThat(lines.get(0)).contains("\"Outcome\":\"NotFound\"").contains("\"Latency\"");
+    assertThat(lines.get(1)).contains("\"Outcome\":\"Success\"").contains("\"Latency\"");
+    // the deferred call was not sent, it has no latency
+    assertThat(lines.get(2)).contains("\"Outcome\":\"Throttling\"").doesNotContain("\"Latency\"");
+  }
+}
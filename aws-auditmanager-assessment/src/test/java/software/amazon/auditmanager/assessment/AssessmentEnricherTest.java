@@ -0,0 +1,114 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class AssessmentEnricherTest {
+
+  private static final long BUDGET_MILLIS = 10_000L;
+
+  @Test
+  public void testEnrich_shouldPreserveOrderAndBoundConcurrency() {
+    final List<ResourceModel> listed = makeListedModels(40);
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    final Random random = new Random(42L);
+    final List<Integer> delays = new ArrayList<>();
+    for (int i = 0; i < listed.size(); i++) {
+      delays.add(random.nextInt(5));
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(16);
+    try {
+      final AssessmentEnricher.Result result = new AssessmentEnricher(4).enrich(listed, assessmentId -> {
+        final int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        return CompletableFuture.supplyAsync(() -> {
+          try {
+            TimeUnit.MILLISECONDS.sleep(delays.get(Integer.parseInt(assessmentId.substring(3))));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          inFlight.decrementAndGet();
+          return ResourceModel.builder().assessmentId(assessmentId).name("read-" + assessmentId).build();
+        }, executor);
+      }, TimeBudget.startingNow(BUDGET_MILLIS));
+
+      assertThat(result.getFailures()).isEmpty();
+      assertThat(result.getModels()).hasSize(listed.size());
+      for (int i = 0; i < listed.size(); i++) {
+        assertThat(result.getModels().get(i).getAssessmentId()).isEqualTo(listed.get(i).getAssessmentId());
+        assertThat(result.getModels().get(i).getName()).isEqualTo("read-" + listed.get(i).getAssessmentId());
+      }
+      assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testEnrich_withFailedRead_shouldKeepListedModelAndReportIt() {
+    final List<ResourceModel> listed = makeListedModels(4);
+
+    final AssessmentEnricher.Result result = new AssessmentEnricher(2).enrich(listed, assessmentId -> {
+      if ("id-1".equals(assessmentId)) {
+        return AbstractTestBase.failedFuture(new IllegalStateException("boom"));
+      }
+      if ("id-2".equals(assessmentId)) {
+        throw new IllegalArgumentException("rejected");
+      }
+      return CompletableFuture.completedFuture(ResourceModel.builder().assessmentId(assessmentId).name("read").build());
+    }, TimeBudget.startingNow(BUDGET_MILLIS));
+
+    assertThat(result.getModels().get(0).getName()).isEqualTo("read");
+    assertThat(result.getModels().get(1)).isSameAs(listed.get(1));
+    assertThat(result.getModels().get(2)).isSameAs(listed.get(2));
+    assertThat(result.getModels().get(3).getName()).isEqualTo("read");
+    assertThat(result.getFailures()).containsExactly("id-1 (boom)", "id-2 (rejected)");
+  }
+
+  @Test
+  public void testEnrich_overBudget_shouldKeepListedModels() {
+    final List<ResourceModel> listed = makeListedModels(2);
+    final CompletableFuture<ResourceModel> neverCompletes = new CompletableFuture<>();
+
+    final AssessmentEnricher.Result result = new AssessmentEnricher(1)
+        .enrich(listed, assessmentId -> neverCompletes, TimeBudget.startingNow(50L));
+
+    assertThat(result.getModels()).containsExactly(listed.get(0), listed.get(1));
+    assertThat(result.getFailures()).hasSize(2);
+    assertThat(result.getFailures().get(0)).startsWith("id-0");
+    assertThat(result.getFailures().get(1)).isEqualTo("id-1 (not read within the time budget)");
+  }
+
+  @Test
+  public void testEnrich_withoutModels_shouldReturnEmptyResult() {
+    final AssessmentEnricher.Result result = new AssessmentEnricher(1)
+        .enrich(new ArrayList<>(), assessmentId -> null, TimeBudget.startingNow(BUDGET_MILLIS));
+
+    assertThat(result.getModels()).isEmpty();
+    assertThat(result.getFailures()).isEmpty();
+  }
+
+  @Test
+  public void testConstructor_withInvalidConcurrency_shouldThrow() {
+    assertThrows(IllegalArgumentException.class, () -> new AssessmentEnricher(0));
+  }
+
+  private static List<ResourceModel> makeListedModels(final int count) {
+    final List<ResourceModel> models = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      models.add(ResourceModel.builder().assessmentId("id-" + i).build());
+    }
+    return models;
+  }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -60,6 +61,26 @@ public class AssessmentMetadataUtilsTest extends AbstractTestBase {
     assertEquals(expectedCfnScope, AssessmentMetadataUtils.transformToCfnScope(expectedScope));
   }
 
+  @Test
+  public void testScopeTransformation_withManyAccounts_shouldPreserveOrder() {
+    final List<software.amazon.auditmanager.assessment.AWSAccount> cfnAccounts = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      cfnAccounts.add(software.amazon.auditmanager.assessment.AWSAccount.builder()
+          .id(String.valueOf(100000000000L + i))
+          .name(ACCOUNT_NAME + i)
+          .emailAddress(ACCOUNT_EMAIL_ADDRESS)
+          .build());
+    }
+    final software.amazon.auditmanager.assessment.Scope cfnScope =
+        software.amazon.auditmanager.assessment.Scope.builder().awsAccounts(cfnAccounts).build();
+
+    final Scope scope = AssessmentMetadataUtils.cfnScopeToSdkScope(cfnScope);
+    for (int i = 0; i < cfnAccounts.size(); i++) {
+      assertEquals(cfnAccounts.get(i).getId(), scope.awsAccounts().get(i).id());
+    }
+    assertEquals(cfnAccounts, AssessmentMetadataUtils.transformToCfnScope(scope).getAwsAccounts());
+  }
+
   @Test
   public void testDelegationsTransformation_withValidDelegations_shouldTransform() {
     List<Delegation> expectedSdkDelegations = makeDelegations(0);
@@ -0,0 +1,131 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import software.amazon.auditmanager.assessment.CircuitBreaker.State;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.auditmanager.model.InternalServerException;
+import software.amazon.awssdk.services.auditmanager.model.ResourceNotFoundException;
+
+public class CircuitBreakerTest {
+
+  private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+  private final CircuitBreaker breaker = new CircuitBreaker(50, 4, 2, 1000L, now::get);
+
+  @Test
+  public void testOnFailure_belowMinimumCalls_shouldStayClosed() {
+    assertThat(breaker.tryAcquirePermission()).isTrue();
+    breaker.onFailure();
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  public void testOnFailure_rateReached_shouldOpenAndRejectCalls() {
+    breaker.onSuccess();
+    breaker.onSuccess();
+    breaker.onFailure();
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+    breaker.onFailure();
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(breaker.tryAcquirePermission()).isFalse();
+    assertThat(breaker.remainingOpenMillis()).isEqualTo(1000L);
+    assertThat(breaker.getTransitions(State.CLOSED, State.OPEN)).isEqualTo(1L);
+  }
+
+  @Test
+  public void testOnSuccess_oldFailuresLeavingWindow_shouldStayClosed() {
+    breaker.onSuccess();
+    breaker.onSuccess();
+    breaker.onFailure();
+    breaker.onSuccess();
+    breaker.onSuccess();
+    breaker.onSuccess();
+    // the window holds the last 4 calls, the failure is dropped from it
+    breaker.onSuccess();
+    breaker.onFailure();
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+    breaker.onFailure();
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  public void testHalfOpen_probeSucceeds_shouldClose() {
+    openBreaker();
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+    assertThat(breaker.tryAcquirePermission()).isTrue();
+    assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    // a single probe at a time
+    assertThat(breaker.tryAcquirePermission()).isFalse();
+
+    breaker.onSuccess();
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(breaker.tryAcquirePermission()).isTrue();
+    // the window starts empty again
+    breaker.onFailure();
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+    assertThat(breaker.getTransitions(State.OPEN, State.HALF_OPEN)).isEqualTo(1L);
+    assertThat(breaker.getTransitions(State.HALF_OPEN, State.CLOSED)).isEqualTo(1L);
+  }
+
+  @Test
+  public void testHalfOpen_probeFails_shouldReopen() {
+    openBreaker();
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+    assertThat(breaker.tryAcquirePermission()).isTrue();
+    breaker.onFailure();
+
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(breaker.tryAcquirePermission()).isFalse();
+    assertThat(breaker.getTransitions(State.HALF_OPEN, State.OPEN)).isEqualTo(1L);
+    assertThat(breaker.getTransitions(State.CLOSED, State.OPEN)).isEqualTo(1L);
+  }
+
+  @Test
+  public void testTransitions_shouldBePassedToListener() {
+    final List<String> transitions = new ArrayList<>();
+    final CircuitBreaker listened = new CircuitBreaker(50, 4, 2, 1000L, now::get,
+        (from, to) -> transitions.add(from + "->" + to));
+    listened.onFailure();
+    listened.onFailure();
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+    listened.tryAcquirePermission();
+    listened.onSuccess();
+
+    assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+  }
+
+  @Test
+  public void testConstructor_invalidArguments_shouldThrow() {
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new CircuitBreaker(0, 4, 2, 1000L));
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new CircuitBreaker(50, 4, 5, 1000L));
+  }
+
+  @Test
+  public void testIsEndpointFailure_shouldOnlyCountServerErrorsAndMissingAnswers() {
+    assertThat(ApiInvoker.isEndpointFailure(null)).isFalse();
+    assertThat(ApiInvoker.isEndpointFailure(
+        InternalServerException.builder().statusCode(500).build())).isTrue();
+    assertThat(ApiInvoker.isEndpointFailure(SdkClientException.create("connection reset"))).isTrue();
+    assertThat(ApiInvoker.isEndpointFailure(
+        ResourceNotFoundException.builder().statusCode(404).build())).isFalse();
+    assertThat(ApiInvoker.isEndpointFailure(AbstractTestBase.makeThrottlingException())).isFalse();
+  }
+
+  private void openBreaker() {
+    breaker.onFailure();
+    breaker.onFailure();
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+  }
+}
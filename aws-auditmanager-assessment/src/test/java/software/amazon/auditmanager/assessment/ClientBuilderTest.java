@@ -0,0 +1,67 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
+
+public class ClientBuilderTest {
+
+  private static final String REGION = "us-west-2";
+
+  @AfterEach
+  public void tearDown() {
+    ClientBuilder.configure(HandlerSettings.defaults());
+  }
+
+  @Test
+  public void testConfigure_shouldCloseCachedClients() {
+    final AuditManagerClient client = ClientBuilder.getClient(REGION);
+    assertThat(ClientBuilder.getClient(REGION)).isSameAs(client);
+
+    ClientBuilder.configure(HandlerSettings.builder().auditManagerEndpoint("http://127.0.0.1:8080").build());
+
+    assertThat(ClientBuilder.getClient(REGION)).isNotSameAs(client);
+  }
+
+  @Test
+  public void testGetClient_eachHttpClientType_shouldBuildClient() {
+    for (final HttpClientType type : HttpClientType.values()) {
+      ClientBuilder.configure(HandlerSettings.builder().httpClient(type).httpMaxConnections(5).build());
+
+      final AuditManagerClient client = ClientBuilder.getClient(REGION);
+      assertThat(client).isNotNull();
+      assertThat(ClientBuilder.getClient(REGION)).isSameAs(client);
+    }
+  }
+
+  @Test
+  public void testCloseClients_concurrentGetClient_shouldNotCacheClientOfClosedHttpClient() throws Exception {
+    ClientBuilder.configure(HandlerSettings.builder().httpClient(HttpClientType.URL_CONNECTION).build());
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> getting = executor.submit(() -> {
+        for (int i = 0; i < 200; i++) {
+          ClientBuilder.getClient(REGION);
+        }
+      });
+      for (int i = 0; i < 50; i++) {
+        ClientBuilder.closeClients();
+      }
+      getting.get(30, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    final AuditManagerClient client = ClientBuilder.getClient(REGION);
+    ClientBuilder.closeClients();
+
+    // a client cached before the close is dropped with the HTTP client it was built on
+    assertThat(ClientBuilder.getClient(REGION)).isNotSameAs(client);
+  }
+}
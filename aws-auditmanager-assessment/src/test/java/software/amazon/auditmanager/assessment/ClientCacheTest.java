@@ -0,0 +1,120 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+public class ClientCacheTest {
+
+  private static final int THREADS = 16;
+
+  @Test
+  public void testGet_sameRegion_shouldReuseClient() {
+    final AtomicInteger builds = new AtomicInteger();
+    final ClientCache<FakeClient> cache = new ClientCache<>(region -> {
+      builds.incrementAndGet();
+      return new FakeClient(region);
+    }, 4);
+
+    final FakeClient first = cache.get("us-west-2");
+    final FakeClient second = cache.get("us-west-2");
+
+    assertThat(second).isSameAs(first);
+    assertThat(builds.get()).isEqualTo(1);
+    assertThat(cache.get("us-east-1")).isNotSameAs(first);
+    assertThat(builds.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testGet_concurrentAccess_shouldBuildOneClientPerRegion() throws Exception {
+    final AtomicInteger builds = new AtomicInteger();
+    final ClientCache<FakeClient> cache = new ClientCache<>(region -> {
+      builds.incrementAndGet();
+      return new FakeClient(region);
+    }, 4);
+    final String[] regions = {"us-west-2", "us-east-1"};
+    final CountDownLatch start = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    final List<Future<FakeClient>> futures = new ArrayList<>();
+    try {
+      for (int i = 0; i < THREADS * 4; i++) {
+        final String region = regions[i % regions.length];
+        futures.add(executor.submit(() -> {
+          start.await();
+          return cache.get(region);
+        }));
+      }
+      start.countDown();
+      for (int i = 0; i < futures.size(); i++) {
+        final FakeClient client = futures.get(i).get(10, TimeUnit.SECONDS);
+        assertThat(client.region).isEqualTo(regions[i % regions.length]);
+        assertThat(client).isSameAs(cache.get(client.region));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(builds.get()).isEqualTo(regions.length);
+    assertThat(cache.size()).isEqualTo(regions.length);
+  }
+
+  @Test
+  public void testGet_overCapacity_shouldEvictLeastRecentlyUsedWithoutClosingIt() {
+    final ClientCache<FakeClient> cache = new ClientCache<>(FakeClient::new, 2);
+    final FakeClient west = cache.get("us-west-2");
+    final FakeClient east = cache.get("us-east-1");
+    cache.get("us-west-2");
+
+    final FakeClient frankfurt = cache.get("eu-central-1");
+
+    assertThat(cache.size()).isEqualTo(2);
+    // it may still be in use by another thread
+    assertThat(east.closed.get()).isEqualTo(0);
+    assertThat(west.closed.get()).isEqualTo(0);
+    assertThat(frankfurt.closed.get()).isEqualTo(0);
+    assertThat(cache.get("us-east-1")).isNotSameAs(east);
+  }
+
+  @Test
+  public void testInvalidate_shouldCloseAndRebuild() {
+    final ClientCache<FakeClient> cache = new ClientCache<>(FakeClient::new, 4);
+    final FakeClient west = cache.get("us-west-2");
+    final FakeClient east = cache.get("us-east-1");
+
+    cache.invalidate("us-west-2");
+    assertThat(west.closed.get()).isEqualTo(1);
+    assertThat(cache.get("us-west-2")).isNotSameAs(west);
+
+    cache.invalidateAll();
+    assertThat(east.closed.get()).isEqualTo(1);
+    assertThat(cache.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void testConstructor_withInvalidBound_shouldThrow() {
+    assertThrows(IllegalArgumentException.class, () -> new ClientCache<>(FakeClient::new, 0));
+  }
+
+  private static class FakeClient implements SdkAutoCloseable {
+    private final String region;
+    private final AtomicInteger closed = new AtomicInteger();
+
+    FakeClient(final String region) {
+      this.region = region;
+    }
+
+    @Override
+    public void close() {
+      closed.incrementAndGet();
+    }
+  }
+}
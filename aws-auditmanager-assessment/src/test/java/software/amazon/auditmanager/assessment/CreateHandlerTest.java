@@ -13,6 +13,7 @@ import static org.mockito.Mockito.times;
 
 import java.time.Duration;
 import software.amazon.awssdk.services.auditmanager.model.AccessDeniedException;
+import software.amazon.awssdk.services.auditmanager.model.Assessment;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -21,6 +22,8 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +31,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.auditmanager.model.CreateAssessmentRequest;
 import software.amazon.awssdk.services.auditmanager.model.CreateAssessmentResponse;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentRequest;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentResponse;
+import software.amazon.awssdk.services.auditmanager.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
 import software.amazon.awssdk.services.auditmanager.model.AuditManagerException;
 import software.amazon.awssdk.services.auditmanager.model.InternalServerException;
@@ -50,6 +56,38 @@ public class CreateHandlerTest extends AbstractTestBase {
     sdkClient = mock(AuditManagerClient.class);
     proxyClient = MOCK_PROXY(proxy, sdkClient);
     handler = new CreateHandler();
+    AssessmentCache.configure(HandlerSettings.defaults());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    AssessmentCache.configure(HandlerSettings.defaults());
+  }
+
+  @Test
+  public void testCreateAssessment_idKnownMissing_shouldInvalidateCache() {
+    AssessmentCache.configure(HandlerSettings.builder().notFoundCacheTtlMillis(60_000L).build());
+    final ResourceModel model = ResourceModel.builder()
+        .scope(makeCfnScope())
+        .roles(makeCfnRoles())
+        .name(ASSESSMENT_NAME)
+        .frameworkId(FRAMEWORK_ID)
+        .build();
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(model)
+        .awsAccountId(ACCOUNT_ID)
+        .region(REGION)
+        .build();
+    final String key = BaseHandlerStd.assessmentKey(request, ASSESSMENT_ID);
+    AssessmentCache.markMissing(key);
+
+    when(proxyClient.client().createAssessment(any(CreateAssessmentRequest.class)))
+        .thenReturn(CreateAssessmentResponse.builder().assessment(makeAssessment(null, null)).build());
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, null, proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(AssessmentCache.isMissing(key, "GetAssessment")).isFalse();
   }
 
   @Test
@@ -172,19 +210,117 @@ public class CreateHandlerTest extends AbstractTestBase {
         });
   }
 
+  @Test
+  public void testCreateAssessment_notYetReadable_shouldKeepStabilizing() {
+    final CallbackContext callbackContext = new CallbackContext();
+    callbackContext.setAssessmentId(ASSESSMENT_ID);
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .build();
+
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class)))
+        .thenThrow(ResourceNotFoundException.class);
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(response.getCallbackDelaySeconds()).isEqualTo(CreateHandler.CALLBACK_DELAY_SECONDS);
+    assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+    verify(proxyClient.client(), times(0)).createAssessment(any(CreateAssessmentRequest.class));
+  }
+
+  @Test
+  public void testCreateAssessment_neverReadable_shouldFailNotStabilized() {
+    final CallbackContext callbackContext = new CallbackContext();
+    callbackContext.setAssessmentId(ASSESSMENT_ID);
+    callbackContext.setStabilizationAttempts(CreateHandler.MAX_STABILIZATION_ATTEMPTS - 1);
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .build();
+
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class)))
+        .thenThrow(ResourceNotFoundException.class);
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+  }
+
+  @Test
+  public void testCreateAssessment_accessDeniedWhileStabilizing_shouldFail() {
+    final CallbackContext callbackContext = new CallbackContext();
+    callbackContext.setAssessmentId(ASSESSMENT_ID);
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .build();
+
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class)))
+        .thenThrow(
+            AccessDeniedException.builder().message(ExceptionTranslator.AUDIT_MANAGER_NOT_ENABLED_MESSAGE).build());
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
+  }
+
+  @Test
+  public void testCreateAssessment_throttled_shouldRetryUntilBudgetExhausted() {
+    final ResourceModel inputResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, makeTags()));
+    final ResourceModel createAssessmentRequestResourceModel = ResourceModel.builder()
+        .scope(inputResourceModel.getScope())
+        .roles(inputResourceModel.getRoles())
+        .name(inputResourceModel.getName())
+        .frameworkId(FRAMEWORK_ID)
+        .build();
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(createAssessmentRequestResourceModel)
+        .build();
+
+    when(proxyClient.client().createAssessment(any(CreateAssessmentRequest.class)))
+        .thenThrow(makeThrottlingException());
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
+    assertThat(response.getCallbackContext().getThrottlingRetries()).isEqualTo(1);
+    assertThat(response.getCallbackContext().getAssessmentId()).isNull();
+
+    response.getCallbackContext().setThrottlingRetries(ExceptionTranslator.MAX_THROTTLING_RETRIES);
+    assertThrows(CfnThrottlingException.class, () ->
+        handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger));
+  }
+
   private void sendRequestAndVerifyResponses(final ResourceModel model) {
     final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
         .desiredResourceState(model)
         .build();
+    final Assessment createdAssessment =
+        (model.getTags() != null) ? makeAssessment(null, makeTags()) : makeAssessment(null, null);
     final CreateAssessmentResponse createAssessmentResponse =
         CreateAssessmentResponse.builder()
-            .assessment(
-                (model.getTags() != null) ? makeAssessment(null, makeTags()) : makeAssessment(null, null))
+            .assessment(createdAssessment)
         .build();
     when(proxyClient.client().createAssessment(any(CreateAssessmentRequest.class)))
         .thenReturn(createAssessmentResponse);
-    final ProgressEvent<ResourceModel, CallbackContext> response
+    final ProgressEvent<ResourceModel, CallbackContext> createResponse
         = handler.handleRequest(proxy, request, null, proxyClient, logger);
+    assertThat(createResponse).isNotNull();
+    assertThat(createResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(createResponse.getCallbackDelaySeconds()).isEqualTo(CreateHandler.CALLBACK_DELAY_SECONDS);
+    assertThat(createResponse.getCallbackContext().getAssessmentId()).isEqualTo(ASSESSMENT_ID);
+    assertThat(createResponse.getResourceModel().getAssessmentId()).isEqualTo(ASSESSMENT_ID);
+
+    // CloudFormation re-invokes the handler with the model and context returned above
+    final ResourceHandlerRequest<ResourceModel> stabilizeRequest = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(createResponse.getResourceModel())
+        .build();
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class)))
+        .thenReturn(GetAssessmentResponse.builder().assessment(createdAssessment).build());
+    final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+        proxy, stabilizeRequest, createResponse.getCallbackContext(), proxyClient, logger);
     assertThat(response).isNotNull();
     assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
     assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -211,5 +347,6 @@ public class CreateHandlerTest extends AbstractTestBase {
     assertThat(response.getMessage()).isNull();
     assertThat(response.getErrorCode()).isNull();
     verify(proxyClient.client(), times(1)).createAssessment(any(CreateAssessmentRequest.class));
+    verify(proxyClient.client(), times(1)).getAssessment(any(GetAssessmentRequest.class));
   }
 }
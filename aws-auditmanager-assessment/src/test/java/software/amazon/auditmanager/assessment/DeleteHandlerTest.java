@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static software.amazon.auditmanager.assessment.AbstractTestBase.*;
 
@@ -32,8 +33,11 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.services.auditmanager.model.DeleteAssessmentRequest;
 import software.amazon.awssdk.services.auditmanager.model.DeleteAssessmentResponse;
 import software.amazon.awssdk.services.auditmanager.model.AuditManagerException;
@@ -59,6 +63,131 @@ public class DeleteHandlerTest extends AbstractTestBase {
     sdkClient = mock(AuditManagerClient.class);
     proxyClient = MOCK_PROXY(proxy, sdkClient);
     handler = new DeleteHandler();
+    AssessmentCache.configure(HandlerSettings.defaults());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    AssessmentCache.configure(HandlerSettings.defaults());
+    ApiInvoker.configure(HandlerSettings.defaults());
+  }
+
+  @Test
+  public void testDeleteAssessment_withTimeBudget_shouldSetCallTimeouts() {
+    ApiInvoker.configure(HandlerSettings.builder()
+        .invocationTimeBudgetMillis(60_000L).minimumCallTimeMillis(1_000L).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .build();
+    when(proxyClient.client().deleteAssessment(any(DeleteAssessmentRequest.class)))
+        .thenReturn(DeleteAssessmentResponse.builder().build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    final ArgumentCaptor<DeleteAssessmentRequest> sent = ArgumentCaptor.forClass(DeleteAssessmentRequest.class);
+    verify(proxyClient.client()).deleteAssessment(sent.capture());
+    final AwsRequestOverrideConfiguration overrideConfiguration = sent.getValue().overrideConfiguration().get();
+    // the timeouts are added to the credentials injected by the proxy
+    assertThat(overrideConfiguration.credentialsProvider()).isPresent();
+    assertThat(overrideConfiguration.apiCallTimeout().get()).isBetween(
+        Duration.ofSeconds(50), Duration.ofSeconds(60));
+    assertThat(overrideConfiguration.apiCallAttemptTimeout().get()).isBetween(
+        Duration.ofSeconds(25), Duration.ofSeconds(30));
+  }
+
+  @Test
+  public void testDeleteAssessment_timeBudgetTooSmall_shouldReturnInProgressWithoutCall() {
+    ApiInvoker.configure(HandlerSettings.builder()
+        .invocationTimeBudgetMillis(500L).minimumCallTimeMillis(1_000L).build());
+    final ResourceModel model = ResourceModel.builder().assessmentId(ASSESSMENT_ID).build();
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(model)
+        .build();
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(response.getCallbackDelaySeconds()).isEqualTo(ApiInvoker.DEADLINE_RETRY_DELAY_SECONDS);
+    assertThat(response.getResourceModel()).isEqualTo(model);
+    verify(proxyClient.client(), never()).deleteAssessment(any(DeleteAssessmentRequest.class));
+  }
+
+  @Test
+  public void testDeleteAssessment_callTimedOut_shouldReturnInProgress() {
+    ApiInvoker.configure(HandlerSettings.builder().invocationTimeBudgetMillis(60_000L).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .build();
+    when(proxyClient.client().deleteAssessment(any(DeleteAssessmentRequest.class)))
+        .thenThrow(ApiCallTimeoutException.create(30_000L));
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(response.getCallbackDelaySeconds()).isEqualTo(ApiInvoker.DEADLINE_RETRY_DELAY_SECONDS);
+  }
+
+  @Test
+  public void testDeleteAssessment_notFoundCacheEnabled_shouldAnswerRepeatedDeleteLocally() {
+    AssessmentCache.configure(HandlerSettings.builder().notFoundCacheTtlMillis(60_000L).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .awsAccountId(ACCOUNT_ID)
+        .region(REGION)
+        .build();
+    when(proxyClient.client().deleteAssessment(any(DeleteAssessmentRequest.class)))
+        .thenReturn(DeleteAssessmentResponse.builder().build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThrows(CfnNotFoundException.class, () ->
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+    verify(proxyClient.client(), times(1)).deleteAssessment(any(DeleteAssessmentRequest.class));
+  }
+
+  @Test
+  public void testDeleteAssessment_notFound_shouldBeRemembered() {
+    AssessmentCache.configure(HandlerSettings.builder().notFoundCacheTtlMillis(60_000L).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .awsAccountId(ACCOUNT_ID)
+        .region(REGION)
+        .build();
+    when(proxyClient.client().deleteAssessment(any(DeleteAssessmentRequest.class)))
+        .thenThrow(ResourceNotFoundException.builder().message("not found").build());
+
+    assertThrows(CfnNotFoundException.class, () ->
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    assertThrows(CfnNotFoundException.class, () ->
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+    verify(proxyClient.client(), times(1)).deleteAssessment(any(DeleteAssessmentRequest.class));
+  }
+
+  @Test
+  public void testDeleteAssessment_cachedAssessment_shouldInvalidateCache() {
+    AssessmentCache.configure(HandlerSettings.builder().readCacheTtlMillis(60_000L).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .awsAccountId(ACCOUNT_ID)
+        .region(REGION)
+        .build();
+    final String key = BaseHandlerStd.assessmentKey(request, ASSESSMENT_ID);
+    AssessmentCache.put(key, makeAssessment(null, null));
+
+    when(proxyClient.client().deleteAssessment(any(DeleteAssessmentRequest.class)))
+        .thenReturn(DeleteAssessmentResponse.builder().build());
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(AssessmentCache.get(key)).isNull();
   }
 
   @Test
@@ -0,0 +1,79 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.auditmanager.model.AccessDeniedException;
+import software.amazon.awssdk.services.auditmanager.model.InternalServerException;
+import software.amazon.awssdk.services.auditmanager.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.auditmanager.model.ValidationException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+public class ExceptionTranslatorTest extends AbstractTestBase {
+
+  @Test
+  public void testTranslate_throttledWithBudget_shouldRetryInProgress() {
+    final ResourceModel model = ResourceModel.builder().assessmentId(ASSESSMENT_ID).build();
+    final CallbackContext callbackContext = new CallbackContext();
+
+    final ProgressEvent<ResourceModel, CallbackContext> response = ExceptionTranslator.translateToCfnException(
+        makeThrottlingException(), ASSESSMENT_ID, model, callbackContext);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(response.getResourceModel()).isEqualTo(model);
+    assertThat(response.getCallbackContext().getThrottlingRetries()).isEqualTo(1);
+    assertThat(response.getCallbackDelaySeconds())
+        .isBetween(ExceptionTranslator.BASE_THROTTLING_DELAY_SECONDS / 2, ExceptionTranslator.BASE_THROTTLING_DELAY_SECONDS);
+  }
+
+  @Test
+  public void testTranslate_throttledWithoutBudget_shouldThrowThrottling() {
+    final CallbackContext callbackContext = new CallbackContext();
+    callbackContext.setThrottlingRetries(ExceptionTranslator.MAX_THROTTLING_RETRIES);
+
+    assertThrows(CfnThrottlingException.class, () -> ExceptionTranslator.translateToCfnException(
+        makeThrottlingException(), ASSESSMENT_ID, ResourceModel.builder().build(), callbackContext));
+    assertThrows(CfnThrottlingException.class, () ->
+        ExceptionTranslator.translateToCfnException(makeThrottlingException(), ASSESSMENT_ID));
+  }
+
+  @Test
+  public void testErrorCodeFor_shouldMatchTheTranslatedExceptions() {
+    assertThat(ExceptionTranslator.errorCodeFor(AccessDeniedException.builder().build()))
+        .isEqualTo(HandlerErrorCode.AccessDenied);
+    assertThat(ExceptionTranslator.errorCodeFor(ResourceNotFoundException.builder().build()))
+        .isEqualTo(HandlerErrorCode.NotFound);
+    assertThat(ExceptionTranslator.errorCodeFor(ValidationException.builder().build()))
+        .isEqualTo(HandlerErrorCode.InvalidRequest);
+    assertThat(ExceptionTranslator.errorCodeFor(makeThrottlingException()))
+        .isEqualTo(HandlerErrorCode.Throttling);
+    assertThat(ExceptionTranslator.errorCodeFor(InternalServerException.builder().build()))
+        .isEqualTo(HandlerErrorCode.ServiceInternalError);
+    assertThat(ExceptionTranslator.errorCodeFor(AwsServiceException.builder().build()))
+        .isEqualTo(HandlerErrorCode.GeneralServiceException);
+    assertThat(ExceptionTranslator.errorCodeFor(new RequestDeferredException("GetAssessment", "waiting", 1)))
+        .isEqualTo(HandlerErrorCode.Throttling);
+    assertThat(ExceptionTranslator.errorCodeFor(new CfnServiceInternalErrorException("circuit open")))
+        .isEqualTo(HandlerErrorCode.ServiceInternalError);
+    assertThat(ExceptionTranslator.errorCodeFor(SdkClientException.create("connection reset")))
+        .isEqualTo(HandlerErrorCode.InternalFailure);
+  }
+
+  @Test
+  public void testComputeThrottlingDelay_shouldGrowExponentiallyUpToCap() {
+    for (int retry = 0; retry < 40; retry++) {
+      final long step = Math.min(ExceptionTranslator.MAX_THROTTLING_DELAY_SECONDS,
+          (long) ExceptionTranslator.BASE_THROTTLING_DELAY_SECONDS << Math.min(retry, 30));
+      for (int sample = 0; sample < 50; sample++) {
+        assertThat((long) ExceptionTranslator.computeThrottlingDelaySeconds(retry)).isBetween(step / 2, step);
+      }
+    }
+  }
+}
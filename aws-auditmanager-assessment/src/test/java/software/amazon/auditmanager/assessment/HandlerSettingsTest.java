@@ -0,0 +1,107 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class HandlerSettingsTest {
+
+  @Test
+  public void testFromEnvironment_withoutVariables_shouldUseDefaults() {
+    final HandlerSettings settings = HandlerSettings.fromEnvironment(name -> null);
+
+    assertThat(settings.getListMaxPages()).isEqualTo(HandlerSettings.DEFAULT_LIST_MAX_PAGES);
+    assertThat(settings.getListTimeBudgetMillis()).isEqualTo(HandlerSettings.DEFAULT_LIST_TIME_BUDGET_MILLIS);
+    assertThat(settings.getListProjection()).isEqualTo(ListProjection.FULL);
+    assertThat(settings.getReadCacheTtlMillis()).isEqualTo(0L);
+    assertThat(settings.getNotFoundCacheTtlMillis()).isEqualTo(0L);
+    assertThat(settings.getRateLimitPerSecond()).isEqualTo(0);
+  }
+
+  @Test
+  public void testFromEnvironment_withVariables_shouldOverrideDefaults() {
+    final Map<String, String> environment = new HashMap<>();
+    environment.put(HandlerSettings.LIST_MAX_PAGES_ENV, "20");
+    environment.put(HandlerSettings.LIST_TIME_BUDGET_MILLIS_ENV, " 45000 ");
+    environment.put(HandlerSettings.LIST_PROJECTION_ENV, "identifier");
+    environment.put(HandlerSettings.LIST_ENRICHMENT_CONCURRENCY_ENV, "16");
+    environment.put(HandlerSettings.READ_CACHE_TTL_MILLIS_ENV, "5000");
+    environment.put(HandlerSettings.READ_CACHE_MAX_ENTRIES_ENV, "200");
+    environment.put(HandlerSettings.NOT_FOUND_CACHE_TTL_MILLIS_ENV, "30000");
+    environment.put(HandlerSettings.NOT_FOUND_CACHE_MAX_ENTRIES_ENV, "500");
+    environment.put(HandlerSettings.RATE_LIMIT_PER_SECOND_ENV, "5");
+    environment.put(HandlerSettings.RATE_LIMIT_BURST_ENV, "10");
+    environment.put(HandlerSettings.RATE_LIMIT_MAX_WAIT_MILLIS_ENV, "500");
+    environment.put(HandlerSettings.CIRCUIT_BREAKER_FAILURE_RATE_PERCENT_ENV, "60");
+    environment.put(HandlerSettings.CIRCUIT_BREAKER_WINDOW_SIZE_ENV, "40");
+    environment.put(HandlerSettings.CIRCUIT_BREAKER_MINIMUM_CALLS_ENV, "15");
+    environment.put(HandlerSettings.CIRCUIT_BREAKER_OPEN_MILLIS_ENV, "10000");
+    environment.put(HandlerSettings.INVOCATION_TIME_BUDGET_MILLIS_ENV, "50000");
+    environment.put(HandlerSettings.MINIMUM_CALL_TIME_MILLIS_ENV, "2000");
+    environment.put(HandlerSettings.HEDGED_READ_PERCENTILE_ENV, "95");
+    environment.put(HandlerSettings.HEDGED_READ_MAX_RATE_PERCENT_ENV, "10");
+    environment.put(HandlerSettings.HEDGED_READ_MINIMUM_DELAY_MILLIS_ENV, "20");
+    environment.put(HandlerSettings.COALESCED_READS_ENABLED_ENV, "true");
+    environment.put(HandlerSettings.METRICS_NAMESPACE_ENV, " AuditManager/Assessment ");
+    environment.put(HandlerSettings.PRIMING_ENABLED_ENV, "TRUE");
+    environment.put(HandlerSettings.AUDIT_MANAGER_ENDPOINT_ENV, "http://127.0.0.1:8080 ");
+    environment.put(HandlerSettings.HTTP_CLIENT_ENV, "url_connection");
+    environment.put(HandlerSettings.HTTP_MAX_CONNECTIONS_ENV, "10");
+
+    final HandlerSettings settings = HandlerSettings.fromEnvironment(environment::get);
+
+    assertThat(settings.getListMaxPages()).isEqualTo(20);
+    assertThat(settings.getListTimeBudgetMillis()).isEqualTo(45000L);
+    assertThat(settings.getListProjection()).isEqualTo(ListProjection.IDENTIFIER);
+    assertThat(settings.getListEnrichmentConcurrency()).isEqualTo(16);
+    assertThat(settings.getReadCacheTtlMillis()).isEqualTo(5000L);
+    assertThat(settings.getReadCacheMaxEntries()).isEqualTo(200);
+    assertThat(settings.getNotFoundCacheTtlMillis()).isEqualTo(30000L);
+    assertThat(settings.getNotFoundCacheMaxEntries()).isEqualTo(500);
+    assertThat(settings.getRateLimitPerSecond()).isEqualTo(5);
+    assertThat(settings.getRateLimitBurst()).isEqualTo(10);
+    assertThat(settings.getRateLimitMaxWaitMillis()).isEqualTo(500L);
+    assertThat(settings.getCircuitBreakerFailureRatePercent()).isEqualTo(60);
+    assertThat(settings.getCircuitBreakerWindowSize()).isEqualTo(40);
+    assertThat(settings.getCircuitBreakerMinimumCalls()).isEqualTo(15);
+    assertThat(settings.getCircuitBreakerOpenMillis()).isEqualTo(10000L);
+    assertThat(settings.getInvocationTimeBudgetMillis()).isEqualTo(50000L);
+    assertThat(settings.getMinimumCallTimeMillis()).isEqualTo(2000L);
+    assertThat(settings.getHedgedReadPercentile()).isEqualTo(95);
+    assertThat(settings.getHedgedReadMaxRatePercent()).isEqualTo(10);
+    assertThat(settings.getHedgedReadMinimumDelayMillis()).isEqualTo(20L);
+    assertThat(settings.isCoalescedReadsEnabled()).isTrue();
+    assertThat(settings.getMetricsNamespace()).isEqualTo("AuditManager/Assessment");
+    assertThat(settings.isPrimingEnabled()).isTrue();
+    assertThat(settings.getAuditManagerEndpoint()).isEqualTo("http://127.0.0.1:8080");
+    assertThat(settings.getHttpClient()).isEqualTo(HttpClientType.URL_CONNECTION);
+    assertThat(settings.getHttpMaxConnections()).isEqualTo(10);
+  }
+
+  @Test
+  public void testFromEnvironment_withInvalidVariables_shouldUseDefaults() {
+    final Map<String, String> environment = new HashMap<>();
+    environment.put(HandlerSettings.LIST_MAX_PAGES_ENV, "-3");
+    environment.put(HandlerSettings.LIST_TIME_BUDGET_MILLIS_ENV, "soon");
+    environment.put(HandlerSettings.LIST_PROJECTION_ENV, "everything");
+    environment.put(HandlerSettings.CIRCUIT_BREAKER_FAILURE_RATE_PERCENT_ENV, "150");
+    environment.put(HandlerSettings.HEDGED_READ_PERCENTILE_ENV, "101");
+    environment.put(HandlerSettings.PRIMING_ENABLED_ENV, "no");
+    environment.put(HandlerSettings.AUDIT_MANAGER_ENDPOINT_ENV, "localhost:8080");
+    environment.put(HandlerSettings.HTTP_CLIENT_ENV, "crt");
+
+    final HandlerSettings settings = HandlerSettings.fromEnvironment(environment::get);
+
+    assertThat(settings.getListMaxPages()).isEqualTo(HandlerSettings.DEFAULT_LIST_MAX_PAGES);
+    assertThat(settings.getListTimeBudgetMillis()).isEqualTo(HandlerSettings.DEFAULT_LIST_TIME_BUDGET_MILLIS);
+    assertThat(settings.getListProjection()).isEqualTo(HandlerSettings.DEFAULT_LIST_PROJECTION);
+    assertThat(settings.getCircuitBreakerFailureRatePercent())
+        .isEqualTo(HandlerSettings.DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE_PERCENT);
+    assertThat(settings.getHedgedReadPercentile()).isEqualTo(HandlerSettings.DEFAULT_HEDGED_READ_PERCENTILE);
+    assertThat(settings.isPrimingEnabled()).isEqualTo(HandlerSettings.DEFAULT_PRIMING_ENABLED);
+    assertThat(settings.getAuditManagerEndpoint()).isEqualTo(HandlerSettings.DEFAULT_AUDIT_MANAGER_ENDPOINT);
+    assertThat(settings.getHttpClient()).isEqualTo(HandlerSettings.DEFAULT_HTTP_CLIENT);
+  }
+}
@@ -0,0 +1,159 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class HedgerTest {
+
+  private static final long TIMEOUT_SECONDS = 5L;
+
+  @Test
+  public void testPercentileNanos_shouldUseNearestRankOfRecentLatencies() {
+    final LatencyTracker tracker = new LatencyTracker(10, 4);
+    for (long latency = 1; latency <= 3; latency++) {
+      tracker.record(latency);
+    }
+    assertThat(tracker.percentileNanos(50)).isEqualTo(-1L);
+
+    for (long latency = 4; latency <= 12; latency++) {
+      tracker.record(latency);
+    }
+    // 1 and 2 left the window, it holds 3 to 12
+    assertThat(tracker.size()).isEqualTo(10);
+    assertThat(tracker.percentileNanos(50)).isEqualTo(7L);
+    assertThat(tracker.percentileNanos(90)).isEqualTo(11L);
+    assertThat(tracker.percentileNanos(100)).isEqualTo(12L);
+  }
+
+  @Test
+  public void testExecute_withoutLatencies_shouldNotHedge() {
+    final Hedger hedger = new Hedger(50, 100, 1L);
+    final AtomicInteger attempts = new AtomicInteger();
+    final CompletableFuture<String> primary = new CompletableFuture<>();
+
+    final CompletableFuture<String> result = hedger.execute(() -> {
+      attempts.incrementAndGet();
+      return primary;
+    });
+    primary.complete("primary");
+
+    assertThat(result.join()).isEqualTo("primary");
+    assertThat(attempts.get()).isEqualTo(1);
+    assertThat(hedger.hedgeDelayNanos()).isEqualTo(-1L);
+  }
+
+  @Test
+  public void testExecute_slowCall_shouldCompleteWithHedge() throws Exception {
+    final Hedger hedger = warmedUp(new Hedger(50, 100, 1L));
+    final CompletableFuture<String> primary = new CompletableFuture<>();
+    final AtomicInteger attempts = new AtomicInteger();
+
+    final CompletableFuture<String> result = hedger.execute(() -> attempts.incrementAndGet() == 1 ?
+        primary : CompletableFuture.completedFuture("hedge"));
+
+    assertThat(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("hedge");
+    assertThat(hedger.getHedges()).isEqualTo(1L);
+    // the win is counted right after the result is completed, on the scheduler thread
+    SingleFlightTest.awaitCondition(() -> hedger.getHedgeWins() == 1L);
+    // the slow call answering late does not change the result
+    primary.complete("primary");
+    assertThat(result.join()).isEqualTo("hedge");
+  }
+
+  @Test
+  public void testExecute_allAttemptsFail_shouldFailWithLastFailure() throws Exception {
+    final Hedger hedger = warmedUp(new Hedger(50, 100, 1L));
+    final CompletableFuture<String> primary = new CompletableFuture<>();
+    final CompletableFuture<String> hedge = new CompletableFuture<>();
+    final AtomicInteger attempts = new AtomicInteger();
+
+    final CompletableFuture<String> result = hedger.execute(() -> attempts.incrementAndGet() == 1 ? primary : hedge);
+    SingleFlightTest.awaitCondition(() -> attempts.get() == 2);
+    hedge.completeExceptionally(new IllegalStateException("hedge failed"));
+    assertThat(result.isDone()).isFalse();
+
+    primary.completeExceptionally(new IllegalStateException("primary failed"));
+    assertThatExceptionOfType(CompletionException.class).isThrownBy(result::join)
+        .withMessageContaining("primary failed");
+    assertThat(hedger.getHedgeWins()).isEqualTo(0L);
+  }
+
+  @Test
+  public void testExecute_hedgeRateReached_shouldStopHedging() throws Exception {
+    // 20 fast calls earn two hedges at 10%
+    final Hedger hedger = warmedUp(new Hedger(50, 10, 1L));
+
+    for (int i = 0; i < 2; i++) {
+      final AtomicInteger attempts = new AtomicInteger();
+      final CompletableFuture<String> result = hedger.execute(() -> attempts.incrementAndGet() == 1 ?
+          new CompletableFuture<>() : CompletableFuture.completedFuture("hedge"));
+      assertThat(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("hedge");
+    }
+
+    final AtomicInteger attempts = new AtomicInteger();
+    final CompletableFuture<String> primary = new CompletableFuture<>();
+    final CompletableFuture<String> result = hedger.execute(() -> {
+      attempts.incrementAndGet();
+      return primary;
+    });
+    TimeUnit.MILLISECONDS.sleep(100);
+    assertThat(result.isDone()).isFalse();
+    assertThat(attempts.get()).isEqualTo(1);
+    assertThat(hedger.getHedges()).isEqualTo(2L);
+
+    primary.complete("primary");
+    assertThat(result.join()).isEqualTo("primary");
+  }
+
+  @Test
+  public void testExecute_hedgeRejected_shouldRefundCreditAndNotCountHedge() throws Exception {
+    // 20 fast calls earn two hedges at 10%
+    final Hedger hedger = warmedUp(new Hedger(50, 10, 1L));
+    final AtomicInteger rejectedAttempts = new AtomicInteger();
+    final CompletableFuture<String> primary = new CompletableFuture<>();
+
+    final CompletableFuture<String> rejected = hedger.execute(() -> {
+      if (rejectedAttempts.incrementAndGet() == 1) return primary;
+      throw new RequestDeferredException("GetAssessment", "no permit left", 1);
+    });
+    SingleFlightTest.awaitCondition(() -> rejectedAttempts.get() == 2);
+    assertThat(hedger.getHedges()).isEqualTo(0L);
+    // the primary call is still outstanding, the rejected hedge does not settle the result
+    assertThat(rejected.isDone()).isFalse();
+    primary.complete("primary");
+    assertThat(rejected.join()).isEqualTo("primary");
+
+    // both hedges earned are still available
+    for (int i = 0; i < 2; i++) {
+      final AtomicInteger attempts = new AtomicInteger();
+      final CompletableFuture<String> result = hedger.execute(() -> attempts.incrementAndGet() == 1 ?
+          new CompletableFuture<>() : CompletableFuture.completedFuture("hedge"));
+      assertThat(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("hedge");
+    }
+    assertThat(hedger.getHedges()).isEqualTo(2L);
+  }
+
+  @Test
+  public void testConstructor_invalidArguments_shouldThrow() {
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new Hedger(0, 5, 50L));
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new Hedger(95, 101, 50L));
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new LatencyTracker(10, 11));
+  }
+
+  /**
+   * Records enough fast calls for the hedge delay to be known.
+   */
+  private static Hedger warmedUp(final Hedger hedger) {
+    for (int i = 0; i < LatencyTracker.DEFAULT_MINIMUM_SAMPLES; i++) {
+      hedger.execute(() -> CompletableFuture.completedFuture("fast")).join();
+    }
+    assertThat(hedger.hedgeDelayNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+    return hedger;
+  }
+}
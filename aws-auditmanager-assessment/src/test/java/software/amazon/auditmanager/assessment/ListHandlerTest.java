@@ -16,6 +16,8 @@ import static software.amazon.auditmanager.assessment.AbstractTestBase.*;
 
 import java.time.Duration;
 import com.google.common.collect.Lists;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.services.auditmanager.AuditManagerAsyncClient;
 import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
 import software.amazon.awssdk.services.auditmanager.model.AccessDeniedException;
 import software.amazon.awssdk.services.auditmanager.model.AuditManagerException;
@@ -37,9 +39,12 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.auditmanager.model.AssessmentMetadata;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentRequest;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentResponse;
 import software.amazon.awssdk.services.auditmanager.model.ListAssessmentsRequest;
 import software.amazon.awssdk.services.auditmanager.model.ListAssessmentsResponse;
 
@@ -54,12 +59,16 @@ public class ListHandlerTest extends AbstractTestBase {
   private AmazonWebServicesClientProxy proxy;
   @Mock
   private ProxyClient<AuditManagerClient> proxyClient;
+  private AuditManagerAsyncClient asyncSdkClient;
+  private ProxyClient<AuditManagerAsyncClient> asyncProxyClient;
 
   @BeforeEach
   public void setup() {
     proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
     sdkClient = mock(AuditManagerClient.class);
     proxyClient = MOCK_PROXY(proxy, sdkClient);
+    asyncSdkClient = mock(AuditManagerAsyncClient.class);
+    asyncProxyClient = MOCK_ASYNC_PROXY(proxy, asyncSdkClient);
     handler = new ListHandler();
   }
 
@@ -125,4 +134,167 @@ public class ListHandlerTest extends AbstractTestBase {
     assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
 
   }
+
+  @Test
+  public void handleRequest_prefetchEnabled_shouldAggregatePages() {
+    final ListHandler prefetchingHandler = new ListHandler(HandlerSettings.builder().listMaxPages(5).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().build())
+        .build();
+    when(proxyClient.client().listAssessments(any(ListAssessmentsRequest.class)))
+        .thenReturn(makeListAssessmentsPage("token1"), makeListAssessmentsPage("token2"),
+            makeListAssessmentsPage(null));
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        prefetchingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModels()).hasSize(3);
+    assertThat(response.getNextToken()).isNull();
+    final ArgumentCaptor<ListAssessmentsRequest> captor = ArgumentCaptor.forClass(ListAssessmentsRequest.class);
+    verify(proxyClient.client(), times(3)).listAssessments(captor.capture());
+    assertThat(captor.getAllValues().get(0).nextToken()).isNull();
+    assertThat(captor.getAllValues().get(1).nextToken()).isEqualTo("token1");
+    assertThat(captor.getAllValues().get(2).nextToken()).isEqualTo("token2");
+  }
+
+  @Test
+  public void handleRequest_prefetchPageLimit_shouldReturnNextToken() {
+    final ListHandler prefetchingHandler = new ListHandler(HandlerSettings.builder().listMaxPages(2).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().build())
+        .nextToken("token0")
+        .build();
+    when(proxyClient.client().listAssessments(any(ListAssessmentsRequest.class)))
+        .thenReturn(makeListAssessmentsPage("token1"), makeListAssessmentsPage("token2"));
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        prefetchingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getResourceModels()).hasSize(2);
+    assertThat(response.getNextToken()).isEqualTo("token2");
+    verify(proxyClient.client(), times(2)).listAssessments(any(ListAssessmentsRequest.class));
+  }
+
+  @Test
+  public void handleRequest_prefetchBudgetExhausted_shouldReturnNextToken() {
+    final ListHandler prefetchingHandler = new ListHandler(
+        HandlerSettings.builder().listMaxPages(5).listTimeBudgetMillis(0L).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().build())
+        .build();
+    when(proxyClient.client().listAssessments(any(ListAssessmentsRequest.class)))
+        .thenReturn(makeListAssessmentsPage("token1"));
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        prefetchingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getResourceModels()).hasSize(1);
+    assertThat(response.getNextToken()).isEqualTo("token1");
+    verify(proxyClient.client(), times(1)).listAssessments(any(ListAssessmentsRequest.class));
+  }
+
+  @Test
+  public void handleRequest_prefetchFailsAfterFirstPage_shouldReturnFetchedPages() {
+    final ListHandler prefetchingHandler = new ListHandler(HandlerSettings.builder().listMaxPages(5).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().build())
+        .build();
+    when(proxyClient.client().listAssessments(any(ListAssessmentsRequest.class)))
+        .thenReturn(makeListAssessmentsPage("token1"))
+        .thenThrow(makeThrottlingException());
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        prefetchingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModels()).hasSize(1);
+    assertThat(response.getNextToken()).isEqualTo("token1");
+  }
+
+  @Test
+  public void handleRequest_identifierProjection_shouldReturnIdentifiersOnly() {
+    final ListHandler identifierHandler =
+        new ListHandler(HandlerSettings.builder().listProjection(ListProjection.IDENTIFIER).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().build())
+        .build();
+    when(proxyClient.client().listAssessments(any(ListAssessmentsRequest.class)))
+        .thenReturn(makeListAssessmentsPage(null));
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        identifierHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModels())
+        .containsExactly(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build());
+  }
+
+  @Test
+  public void handleRequest_enrichedProjection_shouldReadEveryAssessment() {
+    final ListHandler enrichingHandler = makeAsyncHandler(HandlerSettings.builder()
+        .listProjection(ListProjection.ENRICHED)
+        .listEnrichmentConcurrency(2)
+        .build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().build())
+        .build();
+    when(proxyClient.client().listAssessments(any(ListAssessmentsRequest.class)))
+        .thenReturn(makeListAssessmentsPage("token1"));
+    when(asyncSdkClient.getAssessment(any(GetAssessmentRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(
+            GetAssessmentResponse.builder().assessment(makeAssessment(null, makeTags())).build()));
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        enrichingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getMessage()).isNull();
+    assertThat(response.getNextToken()).isEqualTo("token1");
+    assertThat(response.getResourceModels()).hasSize(1);
+    assertThat(response.getResourceModels().get(0).getArn()).isEqualTo(ASSESSMENT_ARN);
+    assertThat(response.getResourceModels().get(0).getFrameworkId()).isEqualTo(FRAMEWORK_ID);
+    assertThat(response.getResourceModels().get(0).getTags()).isEqualTo(Utils.sdkTagsToCfnTags(makeTags()));
+  }
+
+  @Test
+  public void handleRequest_enrichedProjectionReadFails_shouldReportAndKeepListedModel() {
+    final ListHandler enrichingHandler =
+        makeAsyncHandler(HandlerSettings.builder().listProjection(ListProjection.ENRICHED).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().build())
+        .build();
+    when(proxyClient.client().listAssessments(any(ListAssessmentsRequest.class)))
+        .thenReturn(makeListAssessmentsPage(null));
+    when(asyncSdkClient.getAssessment(any(GetAssessmentRequest.class)))
+        .thenReturn(failedFuture(AccessDeniedException.builder().message("not allowed").build()));
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        enrichingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModels()).hasSize(1);
+    assertThat(response.getResourceModels().get(0).getAssessmentId()).isEqualTo(ASSESSMENT_ID);
+    assertThat(response.getResourceModels().get(0).getName()).isEqualTo(ASSESSMENT_NAME);
+    assertThat(response.getResourceModels().get(0).getArn()).isNull();
+    assertThat(response.getMessage()).contains(ASSESSMENT_ID).contains("not allowed");
+  }
+
+  private ListHandler makeAsyncHandler(final HandlerSettings settings) {
+    return new ListHandler(settings) {
+      @Override
+      protected ProxyClient<AuditManagerAsyncClient> asyncProxyClient(
+          final AmazonWebServicesClientProxy proxy,
+          final ResourceHandlerRequest<ResourceModel> request) {
+        return asyncProxyClient;
+      }
+    };
+  }
+
+  private static ListAssessmentsResponse makeListAssessmentsPage(final String nextToken) {
+    return ListAssessmentsResponse.builder()
+        .assessmentMetadata(Lists.newArrayList(makeAssessmentMetadataItem()))
+        .nextToken(nextToken)
+        .build();
+  }
 }
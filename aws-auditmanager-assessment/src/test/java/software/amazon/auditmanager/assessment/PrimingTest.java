@@ -0,0 +1,29 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
+
+public class PrimingTest {
+
+  @AfterEach
+  public void tearDown() {
+    ClientBuilder.closeClients();
+  }
+
+  @Test
+  public void testPrime_withoutRegion_shouldPrimeTranslationAndSerialization() {
+    assertThat(Priming.prime(null)).isTrue();
+  }
+
+  @Test
+  public void testPrime_withRegion_shouldCacheTheClient() {
+    assertThat(Priming.prime("us-west-2")).isTrue();
+
+    final AuditManagerClient client = ClientBuilder.getClient("us-west-2");
+    assertThat(Priming.prime("us-west-2")).isTrue();
+    assertThat(ClientBuilder.getClient("us-west-2")).isSameAs(client);
+  }
+}
@@ -3,6 +3,7 @@ package software.amazon.auditmanager.assessment;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -14,9 +15,18 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.times;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.services.auditmanager.model.AccessDeniedException;
 import software.amazon.awssdk.services.auditmanager.model.ListAssessmentsRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -26,12 +36,14 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.auditmanager.AuditManagerAsyncClient;
 import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
 import software.amazon.awssdk.services.auditmanager.model.Assessment;
 import software.amazon.awssdk.services.auditmanager.model.GetAssessmentRequest;
@@ -58,6 +70,16 @@ public class ReadHandlerTest extends AbstractTestBase {
     sdkClient = mock(AuditManagerClient.class);
     proxyClient = MOCK_PROXY(proxy, sdkClient);
     handler = new ReadHandler();
+    AssessmentCache.configure(HandlerSettings.defaults());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    AssessmentCache.configure(HandlerSettings.defaults());
+    ApiInvoker.configure(HandlerSettings.defaults());
+    HedgedReads.configure(HandlerSettings.defaults());
+    CoalescedReads.configure(HandlerSettings.defaults());
+    Tracer.configure(HandlerSettings.defaults());
   }
 
   @Test
@@ -110,6 +132,243 @@ public class ReadHandlerTest extends AbstractTestBase {
 
   }
 
+  @Test
+  public void testGetAssessment_throttled_shouldThrowThrottling() {
+    final ResourceModel inputResourceModel = ResourceModel.builder().assessmentId(ASSESSMENT_ID).build();
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(inputResourceModel)
+        .build();
+
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class)))
+        .thenThrow(makeThrottlingException());
+    assertThrows(CfnThrottlingException.class, () ->
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+  }
+
+  @Test
+  public void testGetAssessment_concurrentReads_shouldShareOneCall() throws Exception {
+    CoalescedReads.configure(HandlerSettings.builder().coalescedReadsEnabled(true).build());
+    final int readers = 8;
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .awsAccountId(ACCOUNT_ID)
+        .region(REGION)
+        .build();
+    final CountDownLatch release = new CountDownLatch(1);
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class))).thenAnswer(invocation -> {
+      SingleFlightTest.await(release);
+      return GetAssessmentResponse.builder().assessment(makeAssessment(null, null)).build();
+    });
+    final long coalescedBefore = CoalescedReads.getAssessmentCalls().getCoalescedCalls();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(readers);
+    try {
+      final List<Future<ProgressEvent<ResourceModel, CallbackContext>>> responses = new ArrayList<>();
+      for (int i = 0; i < readers; i++) {
+        responses.add(executor.submit(() ->
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger)));
+      }
+      SingleFlightTest.awaitCondition(() ->
+          CoalescedReads.getAssessmentCalls().getCoalescedCalls() - coalescedBefore == readers - 1);
+      release.countDown();
+
+      for (final Future<ProgressEvent<ResourceModel, CallbackContext>> response : responses) {
+        assertThat(response.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.get().getResourceModel().getAssessmentId()).isEqualTo(ASSESSMENT_ID);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    verify(proxyClient.client(), times(1)).getAssessment(any(GetAssessmentRequest.class));
+  }
+
+  @Test
+  public void testGetAssessment_concurrentReadsWithOtherCredentials_shouldNotShareCall() throws Exception {
+    CoalescedReads.configure(HandlerSettings.builder().coalescedReadsEnabled(true).build());
+    final AmazonWebServicesClientProxy otherProxy = new AmazonWebServicesClientProxy(logger,
+        new Credentials("otherAccessKey", "otherSecretKey", "otherToken"), () -> Duration.ofSeconds(600).toMillis());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .awsAccountId(ACCOUNT_ID)
+        .region(REGION)
+        .build();
+    final CountDownLatch bothCalled = new CountDownLatch(2);
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class))).thenAnswer(invocation -> {
+      bothCalled.countDown();
+      SingleFlightTest.await(bothCalled);
+      return GetAssessmentResponse.builder().assessment(makeAssessment(null, null)).build();
+    });
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<ProgressEvent<ResourceModel, CallbackContext>> first = executor.submit(() ->
+          handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+      final Future<ProgressEvent<ResourceModel, CallbackContext>> second = executor.submit(() ->
+          handler.handleRequest(otherProxy, request, new CallbackContext(), MOCK_PROXY(otherProxy, sdkClient), logger));
+
+      assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+      assertThat(second.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    } finally {
+      executor.shutdownNow();
+    }
+    verify(proxyClient.client(), times(2)).getAssessment(any(GetAssessmentRequest.class));
+  }
+
+  @Test
+  public void testGetAssessment_cacheEnabled_shouldServeRepeatedReadsFromMemory() {
+    AssessmentCache.configure(HandlerSettings.builder().readCacheTtlMillis(60_000L).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .awsAccountId(ACCOUNT_ID)
+        .region(REGION)
+        .build();
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class)))
+        .thenReturn(GetAssessmentResponse.builder().assessment(makeAssessment(null, null)).build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> first =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    final ProgressEvent<ResourceModel, CallbackContext> second =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(second.getResourceModel()).isEqualTo(first.getResourceModel());
+    assertThat(AssessmentCache.assessments().getMisses()).isEqualTo(1L);
+    assertThat(AssessmentCache.assessments().getHits()).isEqualTo(1L);
+    verify(proxyClient.client(), times(1)).getAssessment(any(GetAssessmentRequest.class));
+
+    AssessmentCache.invalidate(BaseHandlerStd.assessmentKey(request, ASSESSMENT_ID));
+    handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    verify(proxyClient.client(), times(2)).getAssessment(any(GetAssessmentRequest.class));
+  }
+
+  @Test
+  public void testGetAssessment_notFoundCacheEnabled_shouldAnswerKnownMissingLocally() {
+    AssessmentCache.configure(HandlerSettings.builder().notFoundCacheTtlMillis(60_000L).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .awsAccountId(ACCOUNT_ID)
+        .region(REGION)
+        .build();
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class)))
+        .thenThrow(ResourceNotFoundException.builder().message("not found").build());
+
+    assertThrows(CfnNotFoundException.class, () ->
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    assertThrows(CfnNotFoundException.class, () ->
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+    verify(proxyClient.client(), times(1)).getAssessment(any(GetAssessmentRequest.class));
+    assertThat(AssessmentCache.missing().getHits()).isEqualTo(1L);
+  }
+
+  @Test
+  public void testGetAssessment_deferredByRateLimit_shouldThrowThrottling() {
+    ApiInvoker.configure(HandlerSettings.builder()
+        .rateLimitPerSecond(1).rateLimitBurst(1).rateLimitMaxWaitMillis(1L).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .awsAccountId(ACCOUNT_ID)
+        .region(REGION)
+        .build();
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class)))
+        .thenReturn(GetAssessmentResponse.builder().assessment(makeAssessment(null, null)).build());
+
+    assertThat(handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger).getStatus())
+        .isEqualTo(OperationStatus.SUCCESS);
+    assertThrows(CfnThrottlingException.class, () ->
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    verify(proxyClient.client(), times(1)).getAssessment(any(GetAssessmentRequest.class));
+  }
+
+  @Test
+  public void testGetAssessment_endpointFailing_shouldFailFastOnceCircuitOpens() {
+    ApiInvoker.configure(HandlerSettings.builder()
+        .circuitBreakerFailureRatePercent(50).circuitBreakerWindowSize(4).circuitBreakerMinimumCalls(2)
+        .circuitBreakerOpenMillis(60_000L).build());
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .awsAccountId(ACCOUNT_ID)
+        .region(REGION)
+        .build();
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class)))
+        .thenThrow(InternalServerException.builder().statusCode(500).message("brownout").build());
+
+    for (int i = 0; i < 3; i++) {
+      assertThrows(CfnServiceInternalErrorException.class, () ->
+          handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
+
+    verify(proxyClient.client(), times(2)).getAssessment(any(GetAssessmentRequest.class));
+    assertThat(ApiInvoker.circuitBreaker(REGION).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(ApiInvoker.circuitBreaker(REGION)
+        .getTransitions(CircuitBreaker.State.CLOSED, CircuitBreaker.State.OPEN)).isEqualTo(1L);
+  }
+
+  @Test
+  public void testGetAssessment_withTracing_shouldTraceCallAndMapping() {
+    final InMemorySpanExporter exporter = new InMemorySpanExporter();
+    Tracer.configure(exporter);
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class)))
+        .thenReturn(GetAssessmentResponse.builder().assessment(makeAssessment(null, null)).build());
+
+    final Span root = Tracer.start("ReadHandler");
+    handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .build(), new CallbackContext(), proxyClient, logger);
+    root.end();
+
+    assertThat(exporter.getSpans()).extracting(Span::getName).containsExactly(
+        ApiInvoker.INJECT_CREDENTIALS_SPAN, ApiInvoker.SDK_CALL_SPAN, ApiInvoker.SPAN_PREFIX + "GetAssessment",
+        Tracer.MAP_RESPONSE_SPAN, "ReadHandler");
+    final Span call = exporter.getSpans(ApiInvoker.SPAN_PREFIX + "GetAssessment").get(0);
+    assertThat(call.getParentSpanId()).isEqualTo(root.getSpanId());
+    assertThat(exporter.getSpans(ApiInvoker.INJECT_CREDENTIALS_SPAN).get(0).getParentSpanId())
+        .isEqualTo(call.getSpanId());
+    assertThat(exporter.getSpans(ApiInvoker.SDK_CALL_SPAN).get(0).getParentSpanId()).isEqualTo(call.getSpanId());
+    assertThat(exporter.getSpans(Tracer.MAP_RESPONSE_SPAN).get(0).getParentSpanId()).isEqualTo(root.getSpanId());
+  }
+
+  @Test
+  public void testGetAssessment_slowCallWithHedging_shouldSucceedWithHedge() {
+    HedgedReads.configure(HandlerSettings.builder()
+        .hedgedReadPercentile(50).hedgedReadMaxRatePercent(100).hedgedReadMinimumDelayMillis(1L).build());
+    final AuditManagerAsyncClient asyncSdkClient = mock(AuditManagerAsyncClient.class);
+    final ProxyClient<AuditManagerAsyncClient> asyncProxyClient = MOCK_ASYNC_PROXY(proxy, asyncSdkClient);
+    final ReadHandler hedgingHandler = new ReadHandler() {
+      @Override
+      protected ProxyClient<AuditManagerAsyncClient> asyncProxyClient(
+          final AmazonWebServicesClientProxy proxy,
+          final ResourceHandlerRequest<ResourceModel> request) {
+        return asyncProxyClient;
+      }
+    };
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build())
+        .awsAccountId(ACCOUNT_ID)
+        .region(REGION)
+        .build();
+    final GetAssessmentResponse getAssessmentResponse =
+        GetAssessmentResponse.builder().assessment(makeAssessment(null, null)).build();
+    when(asyncSdkClient.getAssessment(any(GetAssessmentRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(getAssessmentResponse));
+    // fast reads until the hedge delay is known
+    for (int i = 0; i < LatencyTracker.DEFAULT_MINIMUM_SAMPLES; i++) {
+      hedgingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
+
+    when(asyncSdkClient.getAssessment(any(GetAssessmentRequest.class)))
+        .thenReturn(new CompletableFuture<>(), CompletableFuture.completedFuture(getAssessmentResponse));
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        hedgingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModel().getAssessmentId()).isEqualTo(ASSESSMENT_ID);
+    verify(asyncSdkClient, times(LatencyTracker.DEFAULT_MINIMUM_SAMPLES + 2))
+        .getAssessment(any(GetAssessmentRequest.class));
+    verify(proxyClient.client(), never()).getAssessment(any(GetAssessmentRequest.class));
+    assertThat(HedgedReads.forRegion(REGION).getHedges()).isEqualTo(1L);
+  }
+
   private void sendRequestAndVerifyResponses(final Assessment expectedAssessment) {
     final ResourceModel expectedResourceModel =
         Utils.transformToAssessmentResourceModel(makeResourceModel(), expectedAssessment);
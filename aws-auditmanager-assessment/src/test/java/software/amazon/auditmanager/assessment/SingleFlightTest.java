@@ -0,0 +1,188 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightTest {
+
+  private static final int CALLERS = 16;
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setup() {
+    executor = Executors.newFixedThreadPool(CALLERS);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testExecute_concurrentCallsForSameKey_shouldShareOneCall() throws Exception {
+    final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    final AtomicInteger backendCalls = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+
+    final List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+        backendCalls.incrementAndGet();
+        await(release);
+        return "value";
+      })));
+    }
+    // the call is held until every other caller has joined it
+    awaitCondition(() -> singleFlight.getCoalescedCalls() == CALLERS - 1);
+    release.countDown();
+
+    for (final Future<String> result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    }
+    assertThat(backendCalls.get()).isEqualTo(1);
+    assertThat(singleFlight.getCalls()).isEqualTo(1L);
+    assertThat(singleFlight.getCoalescedCalls()).isEqualTo(CALLERS - 1);
+    assertThat(singleFlight.inFlightSize()).isEqualTo(0);
+  }
+
+  @Test
+  public void testExecute_differentKeys_shouldNotBeCoalesced() throws Exception {
+    final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    final CountDownLatch allStarted = new CountDownLatch(CALLERS);
+
+    final List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      final String key = "key-" + i;
+      results.add(executor.submit(() -> singleFlight.execute(key, () -> {
+        allStarted.countDown();
+        await(allStarted);
+        return key;
+      })));
+    }
+
+    for (int i = 0; i < CALLERS; i++) {
+      assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("key-" + i);
+    }
+    assertThat(singleFlight.getCalls()).isEqualTo((long) CALLERS);
+    assertThat(singleFlight.getCoalescedCalls()).isEqualTo(0L);
+  }
+
+  @Test
+  public void testExecute_failedCall_shouldBeRethrownToEveryCaller() throws Exception {
+    final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    final CountDownLatch release = new CountDownLatch(1);
+    final IllegalStateException failure = new IllegalStateException("backend failure");
+
+    final List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+        await(release);
+        throw failure;
+      })));
+    }
+    awaitCondition(() -> singleFlight.getCoalescedCalls() == CALLERS - 1);
+    release.countDown();
+
+    for (final Future<String> result : results) {
+      final ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+      assertThat(e.getCause()).isSameAs(failure);
+    }
+    assertThat(singleFlight.inFlightSize()).isEqualTo(0);
+  }
+
+  @Test
+  public void testExecute_failureNotShared_shouldRunJoinedCallersOwnCall() throws Exception {
+    final SingleFlight<String, String> singleFlight =
+        new SingleFlight<>(failure -> !(failure instanceof RequestDeferredException));
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger backendCalls = new AtomicInteger();
+
+    final Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+      backendCalls.incrementAndGet();
+      await(release);
+      throw new RequestDeferredException("GetAssessment", "too little invocation time left", 1);
+    }));
+    awaitCondition(() -> singleFlight.inFlightSize() == 1);
+    final Future<String> joiner = executor.submit(() -> singleFlight.execute("key", () -> {
+      backendCalls.incrementAndGet();
+      return "value";
+    }));
+    awaitCondition(() -> singleFlight.getCoalescedCalls() == 1L);
+    release.countDown();
+
+    final ExecutionException e = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+    assertThat(e.getCause()).isInstanceOf(RequestDeferredException.class);
+    assertThat(joiner.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    assertThat(backendCalls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testExecuteAsync_callsForSameKey_shouldShareCallUntilItCompletes() throws Exception {
+    final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    final CompletableFuture<String> backend = new CompletableFuture<>();
+    final AtomicInteger backendCalls = new AtomicInteger();
+
+    final CompletableFuture<String> first = singleFlight.executeAsync("key", () -> {
+      backendCalls.incrementAndGet();
+      return backend;
+    });
+    final CompletableFuture<String> second = singleFlight.executeAsync("key", () -> {
+      backendCalls.incrementAndGet();
+      return CompletableFuture.completedFuture("other");
+    });
+    assertThat(second).isNotDone();
+    backend.complete("value");
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    assertThat(backendCalls.get()).isEqualTo(1);
+    assertThat(singleFlight.inFlightSize()).isEqualTo(0);
+  }
+
+  @Test
+  public void testExecute_sequentialCalls_shouldEachRun() {
+    final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+    final AtomicInteger backendCalls = new AtomicInteger();
+
+    assertThat(singleFlight.execute("key", backendCalls::incrementAndGet)).isEqualTo(1);
+    assertThat(singleFlight.execute("key", backendCalls::incrementAndGet)).isEqualTo(2);
+    assertThat(singleFlight.getCoalescedCalls()).isEqualTo(0L);
+  }
+
+  static void await(final CountDownLatch latch) {
+    try {
+      if (!latch.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("latch was not released");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  static void awaitCondition(final BooleanSupplier condition) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > deadline) {
+        throw new IllegalStateException("condition was not met in time");
+      }
+      Thread.sleep(5);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class TimeBudgetTest {
+
+  @Test
+  public void testTimeBudget_shouldTrackElapsedAndRemainingTime() {
+    final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    final TimeBudget budget = new TimeBudget(1000L, now::get);
+
+    assertThat(budget.elapsedMillis()).isEqualTo(0L);
+    assertThat(budget.remainingMillis()).isEqualTo(1000L);
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(700));
+    assertThat(budget.elapsedMillis()).isEqualTo(700L);
+    assertThat(budget.remainingMillis()).isEqualTo(300L);
+    assertThat(budget.fits(299L)).isTrue();
+    assertThat(budget.fits(300L)).isFalse();
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(budget.remainingMillis()).isEqualTo(0L);
+    assertThat(budget.fits(0L)).isFalse();
+  }
+}
@@ -0,0 +1,97 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketTest {
+
+  private static final int BURST_SIZE = 200;
+  private static final double SERVICE_TPS = 10d;
+  private static final long MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+  private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+  @Test
+  public void testTryAcquire_shouldAllowBurstThenPaceToRate() {
+    final TokenBucket bucket = new TokenBucket(4d, 2, now::get);
+
+    assertThat(bucket.tryAcquire()).isEqualTo(0L);
+    assertThat(bucket.tryAcquire()).isEqualTo(0L);
+    assertThat(bucket.tryAcquire()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(250));
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(bucket.tryAcquire()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(150));
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(150));
+    assertThat(bucket.tryAcquire()).isEqualTo(0L);
+  }
+
+  @Test
+  public void testTryAcquire_afterIdlePeriod_shouldNotExceedCapacity() {
+    final TokenBucket bucket = new TokenBucket(4d, 2, now::get);
+    now.addAndGet(TimeUnit.MINUTES.toNanos(10));
+
+    assertThat(bucket.availableTokens()).isEqualTo(2d);
+  }
+
+  @Test
+  public void testConstructor_invalidArguments_shouldThrow() {
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new TokenBucket(0d, 1));
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new TokenBucket(1d, 0));
+  }
+
+  /**
+   * Virtual-time simulation of a burst of calls arriving at once against a service enforcing its own
+   * token bucket. Without a client-side limit most of the burst is throttled; with a limit slightly
+   * below the service rate nothing is throttled, calls that would wait too long are deferred instead.
+   */
+  @Test
+  public void testBurstSimulation_clientSideLimit_shouldAvoidThrottling() {
+    final BurstOutcome unlimited = simulateBurst(null);
+    final BurstOutcome limited = simulateBurst(new TokenBucket(SERVICE_TPS * 0.8, 5, now::get));
+
+    assertThat(unlimited.throttled).isEqualTo(BURST_SIZE - (int) SERVICE_TPS);
+    assertThat(limited.throttled).isEqualTo(0);
+    assertThat(limited.sent + limited.deferred).isEqualTo(BURST_SIZE);
+    // the burst plus about what the rate allows within the maximum wait
+    assertThat(limited.sent).isBetween(5 + 15, 5 + 16);
+  }
+
+  private BurstOutcome simulateBurst(final TokenBucket clientLimit) {
+    final long burstStart = now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+    final TokenBucket service = new TokenBucket(SERVICE_TPS, (int) SERVICE_TPS, now::get);
+    final BurstOutcome outcome = new BurstOutcome();
+    for (int i = 0; i < BURST_SIZE; i++) {
+      // every caller arrives at the start of the burst, callers are granted the limit one after the other
+      if (clientLimit != null) {
+        long waitNanos;
+        while ((waitNanos = clientLimit.tryAcquire()) > 0) {
+          if (now.get() + waitNanos - burstStart > MAX_WAIT_NANOS) {
+            break;
+          }
+          now.addAndGet(waitNanos);
+        }
+        if (waitNanos > 0) {
+          outcome.deferred++;
+          continue;
+        }
+      }
+      if (service.tryAcquire() == 0L) {
+        outcome.sent++;
+      } else {
+        outcome.throttled++;
+      }
+    }
+    return outcome;
+  }
+
+  private static final class BurstOutcome {
+    private int sent;
+    private int throttled;
+    private int deferred;
+  }
+}
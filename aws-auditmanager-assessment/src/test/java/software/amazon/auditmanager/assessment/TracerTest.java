@@ -0,0 +1,110 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TracerTest {
+
+  private final InMemorySpanExporter exporter = new InMemorySpanExporter();
+
+  @BeforeEach
+  public void setup() {
+    Tracer.configure(exporter);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    Tracer.configure(HandlerSettings.defaults());
+  }
+
+  @Test
+  public void testStart_nestedSpans_shouldShareTraceAndLinkParents() {
+    final Span root = Tracer.start("Handler");
+    final String mapped = Tracer.trace(Tracer.MAP_RESPONSE_SPAN, () -> {
+      Tracer.current().setAttribute("models", 2);
+      return "mapped";
+    });
+    root.end();
+    root.end();
+
+    assertThat(mapped).isEqualTo("mapped");
+    final List<Span> spans = exporter.getSpans();
+    assertThat(spans).extracting(Span::getName).containsExactly(Tracer.MAP_RESPONSE_SPAN, "Handler");
+    assertThat(spans.get(0).getTraceId()).isEqualTo(root.getTraceId());
+    assertThat(spans.get(0).getParentSpanId()).isEqualTo(root.getSpanId());
+    assertThat(spans.get(0).getAttributes()).containsEntry("models", "2");
+    assertThat(root.getParentSpanId()).isNull();
+    assertThat(root.getDurationMicros()).isGreaterThanOrEqualTo(spans.get(0).getDurationMicros());
+    // the root span ended, the next span starts a new trace
+    assertThat(Tracer.current()).isSameAs(Span.NOOP);
+    Tracer.start("Next").end();
+    assertThat(exporter.getSpans("Next").get(0).getTraceId()).isNotEqualTo(root.getTraceId());
+  }
+
+  @Test
+  public void testTrace_failingWork_shouldRecordFailure() {
+    assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() ->
+        Tracer.run(Tracer.VALIDATE_SPAN, () -> {
+          throw new IllegalStateException("invalid");
+        }));
+
+    assertThat(exporter.getSpans(Tracer.VALIDATE_SPAN).get(0).getAttributes())
+        .containsEntry("error", "IllegalStateException");
+  }
+
+  @Test
+  public void testStartDetached_shouldEndOnAnotherThreadWithoutBecomingCurrent() {
+    final Span root = Tracer.start("Handler");
+    final Span detached = Tracer.startDetached("Async", null);
+    assertThat(Tracer.current()).isSameAs(root);
+
+    CompletableFuture.runAsync(detached::end).join();
+    root.end();
+
+    assertThat(exporter.getSpans("Async").get(0).getParentSpanId()).isEqualTo(root.getSpanId());
+  }
+
+  @Test
+  public void testStart_disabled_shouldRecordNothing() {
+    Tracer.configure((SpanExporter) null);
+
+    final Span span = Tracer.start("Handler").setAttribute("region", "us-west-2");
+    span.end();
+
+    assertThat(span).isSameAs(Span.NOOP);
+    assertThat(span.getAttributes()).isEmpty();
+    assertThat(exporter.getSpans()).isEmpty();
+  }
+
+  @Test
+  public void testFileSpanExporter_shouldAppendJsonLines(@TempDir final Path directory) throws Exception {
+    final Path file = directory.resolve("spans.jsonl");
+    Tracer.configure(HandlerSettings.builder().traceFile(file.toString()).build());
+
+    final Span root = Tracer.start("ReadHandler");
+    Tracer.start(Tracer.MAP_RESPONSE_SPAN).end();
+    root.end();
+
+    final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    assertThat(lines).hasSize(2);
+    final ObjectMapper mapper = new ObjectMapper();
+    final JsonNode child = mapper.readTree(lines.get(0));
+    final JsonNode parent = mapper.readTree(lines.get(1));
+    assertThat(child.get("name").asText()).isEqualTo(Tracer.MAP_RESPONSE_SPAN);
+    assertThat(child.get("parentSpanId").asText()).isEqualTo(parent.get("spanId").asText());
+    assertThat(parent.get("parentSpanId").isNull()).isTrue();
+    assertThat(parent.get("durationMicros").asLong()).isGreaterThanOrEqualTo(0L);
+  }
+}
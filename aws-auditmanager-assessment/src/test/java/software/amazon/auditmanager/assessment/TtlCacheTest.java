@@ -0,0 +1,73 @@
+package software.amazon.auditmanager.assessment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class TtlCacheTest {
+
+  private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+  @Test
+  public void testGet_beforeAndAfterTtl_shouldExpireEntry() {
+    final TtlCache<String, String> cache = new TtlCache<>(1000L, 10, now::get);
+    cache.put("key", "value");
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+    assertThat(cache.get("key")).isEqualTo("value");
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+    assertThat(cache.get("key")).isNull();
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(cache.getHits()).isEqualTo(1L);
+    assertThat(cache.getMisses()).isEqualTo(1L);
+  }
+
+  @Test
+  public void testPut_overBound_shouldEvictLeastRecentlyUsed() {
+    final TtlCache<String, String> cache = new TtlCache<>(1000L, 2, now::get);
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.get("a");
+    cache.put("c", "3");
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("a")).isEqualTo("1");
+    assertThat(cache.get("b")).isNull();
+    assertThat(cache.get("c")).isEqualTo("3");
+  }
+
+  @Test
+  public void testPut_sameKey_shouldRestartTtl() {
+    final TtlCache<String, String> cache = new TtlCache<>(1000L, 10, now::get);
+    cache.put("key", "old");
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(800));
+    cache.put("key", "new");
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(800));
+
+    assertThat(cache.get("key")).isEqualTo("new");
+  }
+
+  @Test
+  public void testInvalidate_shouldRemoveEntries() {
+    final TtlCache<String, String> cache = new TtlCache<>(1000L, 10, now::get);
+    cache.put("a", "1");
+    cache.put("b", "2");
+
+    cache.invalidate("a");
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.get("b")).isEqualTo("2");
+
+    cache.invalidateAll();
+    assertThat(cache.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void testConstructor_invalidBounds_shouldThrow() {
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new TtlCache<String, String>(0L, 10));
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new TtlCache<String, String>(10L, 0));
+  }
+}
@@ -3,6 +3,7 @@ package software.amazon.auditmanager.assessment;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -11,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static software.amazon.auditmanager.assessment.AbstractTestBase.*;
 import static software.amazon.auditmanager.assessment.AssessmentMetadataUtils.*;
@@ -19,9 +21,15 @@ import static software.amazon.auditmanager.assessment.UpdateHandler.INACTIVE_ASS
 import java.time.Duration;
 import com.google.common.collect.Lists;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.services.auditmanager.AuditManagerAsyncClient;
 import software.amazon.awssdk.services.auditmanager.AuditManagerClient;
 import software.amazon.awssdk.services.auditmanager.model.AccessDeniedException;
 import software.amazon.awssdk.services.auditmanager.model.CreateAssessmentRequest;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentRequest;
+import software.amazon.awssdk.services.auditmanager.model.GetAssessmentResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -37,6 +45,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.auditmanager.model.Assessment;
@@ -49,6 +59,10 @@ import software.amazon.awssdk.services.auditmanager.model.AssessmentStatus;
 import software.amazon.awssdk.services.auditmanager.model.AuditManagerException;
 import software.amazon.awssdk.services.auditmanager.model.InternalServerException;
 import software.amazon.awssdk.services.auditmanager.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.auditmanager.model.TagResourceRequest;
+import software.amazon.awssdk.services.auditmanager.model.TagResourceResponse;
+import software.amazon.awssdk.services.auditmanager.model.UntagResourceRequest;
+import software.amazon.awssdk.services.auditmanager.model.UntagResourceResponse;
 import software.amazon.awssdk.services.auditmanager.model.ValidationException;
 
 @ExtendWith(MockitoExtension.class)
@@ -61,13 +75,29 @@ public class UpdateHandlerTest extends AbstractTestBase {
   private AmazonWebServicesClientProxy proxy;
   @Mock
   private ProxyClient<AuditManagerClient> proxyClient;
+  private AuditManagerAsyncClient asyncSdkClient;
+  private ProxyClient<AuditManagerAsyncClient> asyncProxyClient;
 
   @BeforeEach
   public void setup() {
     proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
     sdkClient = mock(AuditManagerClient.class);
     proxyClient = MOCK_PROXY(proxy, sdkClient);
-    handler = new UpdateHandler();
+    asyncSdkClient = mock(AuditManagerAsyncClient.class);
+    asyncProxyClient = MOCK_ASYNC_PROXY(proxy, asyncSdkClient);
+    handler = new UpdateHandler() {
+      @Override
+      protected ProxyClient<AuditManagerAsyncClient> asyncProxyClient(
+          final AmazonWebServicesClientProxy proxy,
+          final ResourceHandlerRequest<ResourceModel> request) {
+        return asyncProxyClient;
+      }
+    };
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ApiInvoker.configure(HandlerSettings.defaults());
   }
 
   @Test
@@ -109,7 +139,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
     final ResourceModel currentResourceModel =
         Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
-    currentResourceModel.getAssessmentReportsDestination().setDestination(ASSESSMENT_REPORT_DESTINATION);
+    currentResourceModel.getAssessmentReportsDestination().setDestination(ASSESSMENT_REPORT_DESTINATION_UPDATED);
 
     sendRequestAndVerifyResponses(previousResourceModel, currentResourceModel);
   }
@@ -136,12 +166,186 @@ public class UpdateHandlerTest extends AbstractTestBase {
     sendRequestAndVerifyResponses(previousResourceModel, currentResourceModel);
   }
 
+  @Test
+  public void testUpdateAssessment_noChanges_shouldSkipUpdate() {
+    final ResourceModel previousResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    final ResourceModel currentResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(currentResourceModel)
+        .previousResourceState(previousResourceModel)
+        .build();
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModel()).isEqualTo(currentResourceModel);
+    verifyZeroInteractions(sdkClient);
+  }
+
+  @Test
+  public void testUpdateAssessment_nameChange_shouldSendOnlyChangedAttributes() {
+    final ResourceModel previousResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    final ResourceModel currentResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    currentResourceModel.setName(ASSESSMENT_NAME_UPDATED);
+
+    sendRequestAndVerifyResponses(previousResourceModel, currentResourceModel);
+
+    final ArgumentCaptor<UpdateAssessmentRequest> captor = ArgumentCaptor.forClass(UpdateAssessmentRequest.class);
+    verify(proxyClient.client()).updateAssessment(captor.capture());
+    assertThat(captor.getValue().assessmentId()).isEqualTo(ASSESSMENT_ID);
+    assertThat(captor.getValue().assessmentName()).isEqualTo(ASSESSMENT_NAME_UPDATED);
+    assertThat(captor.getValue().scope()).isEqualTo(makeScope());
+    assertThat(captor.getValue().assessmentDescription()).isNull();
+    assertThat(captor.getValue().assessmentReportsDestination()).isNull();
+    assertThat(captor.getValue().roles()).isEmpty();
+  }
+
+  @Test
+  public void testUpdateAssessment_tagsChange_shouldTagInPlace() {
+    final ResourceModel previousResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, makeTags()));
+    final Map<String, String> updatedTags = new HashMap<>();
+    updatedTags.put("key1", "changed");
+    updatedTags.put("key3", "value3");
+    final ResourceModel currentResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, updatedTags));
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(currentResourceModel)
+        .previousResourceState(previousResourceModel)
+        .build();
+    when(asyncSdkClient.tagResource(any(TagResourceRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()));
+    when(asyncSdkClient.untagResource(any(UntagResourceRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()));
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModel().getTags()).isEqualTo(currentResourceModel.getTags());
+    final ArgumentCaptor<TagResourceRequest> tagCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+    verify(asyncSdkClient).tagResource(tagCaptor.capture());
+    assertThat(tagCaptor.getValue().resourceArn()).isEqualTo(ASSESSMENT_ARN);
+    assertThat(tagCaptor.getValue().tags()).isEqualTo(updatedTags);
+    final ArgumentCaptor<UntagResourceRequest> untagCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
+    verify(asyncSdkClient).untagResource(untagCaptor.capture());
+    assertThat(untagCaptor.getValue().resourceArn()).isEqualTo(ASSESSMENT_ARN);
+    assertThat(untagCaptor.getValue().tagKeys()).containsExactly("key2");
+    verify(proxyClient.client(), times(0)).updateAssessment(any(UpdateAssessmentRequest.class));
+  }
+
+  @Test
+  public void testUpdateAssessment_tagsChangeWithoutArn_shouldReadArn() {
+    final ResourceModel previousResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, makeTags()));
+    previousResourceModel.setArn(null);
+    final ResourceModel currentResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    currentResourceModel.setArn(null);
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(currentResourceModel)
+        .previousResourceState(previousResourceModel)
+        .build();
+    when(proxyClient.client().getAssessment(any(GetAssessmentRequest.class)))
+        .thenReturn(GetAssessmentResponse.builder().assessment(makeAssessment(null, makeTags())).build());
+    when(asyncSdkClient.untagResource(any(UntagResourceRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()));
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    final ArgumentCaptor<GetAssessmentRequest> getCaptor = ArgumentCaptor.forClass(GetAssessmentRequest.class);
+    verify(proxyClient.client()).getAssessment(getCaptor.capture());
+    assertThat(getCaptor.getValue().assessmentId()).isEqualTo(ASSESSMENT_ID);
+    final ArgumentCaptor<UntagResourceRequest> untagCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
+    verify(asyncSdkClient).untagResource(untagCaptor.capture());
+    assertThat(untagCaptor.getValue().resourceArn()).isEqualTo(ASSESSMENT_ARN);
+  }
+
+  @Test
+  public void testUpdateAssessment_tagsAndNameChange_shouldReturnDesiredTags() {
+    final ResourceModel previousResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    final ResourceModel currentResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, makeTags()));
+    currentResourceModel.setName(ASSESSMENT_NAME_UPDATED);
+    when(asyncSdkClient.tagResource(any(TagResourceRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()));
+
+    sendRequestAndVerifyResponses(previousResourceModel, currentResourceModel);
+
+    verify(asyncSdkClient).tagResource(any(TagResourceRequest.class));
+    verify(asyncSdkClient, times(0)).untagResource(any(UntagResourceRequest.class));
+  }
+
+  @Test
+  public void testUpdateAssessment_tagCallThrottled_shouldResumeWithTags() {
+    final ResourceModel previousResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    final ResourceModel currentResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, makeTags()));
+    currentResourceModel.setName(ASSESSMENT_NAME_UPDATED);
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(currentResourceModel)
+        .previousResourceState(previousResourceModel)
+        .build();
+    when(proxyClient.client().updateAssessment(any(UpdateAssessmentRequest.class)))
+        .thenReturn(UpdateAssessmentResponse.builder().assessment(makeAssessment(null, null)).build());
+    when(asyncSdkClient.tagResource(any(TagResourceRequest.class)))
+        .thenReturn(failedFuture(makeThrottlingException()))
+        .thenReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()));
+
+    final ProgressEvent<ResourceModel, CallbackContext> throttled =
+        handler.handleRequest(proxy, request, null, proxyClient, logger);
+    assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(throttled.getCallbackContext().isMetadataUpdated()).isTrue();
+    assertThat(throttled.getCallbackContext().isTagsUpdated()).isFalse();
+
+    final ProgressEvent<ResourceModel, CallbackContext> resumed =
+        handler.handleRequest(proxy, request, throttled.getCallbackContext(), proxyClient, logger);
+    assertThat(resumed.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(resumed.getResourceModel().getTags()).isEqualTo(currentResourceModel.getTags());
+    verify(proxyClient.client(), times(1)).updateAssessment(any(UpdateAssessmentRequest.class));
+    verify(asyncSdkClient, times(2)).tagResource(any(TagResourceRequest.class));
+  }
+
+  @Test
+  public void testUpdateAssessment_metadataThrottled_shouldRecordCompletedTagCalls() {
+    final ResourceModel previousResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    final ResourceModel currentResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, makeTags()));
+    currentResourceModel.setName(ASSESSMENT_NAME_UPDATED);
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(currentResourceModel)
+        .previousResourceState(previousResourceModel)
+        .build();
+    when(proxyClient.client().updateAssessment(any(UpdateAssessmentRequest.class)))
+        .thenThrow(makeThrottlingException());
+    when(asyncSdkClient.tagResource(any(TagResourceRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()));
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, null, proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(response.getCallbackContext().isMetadataUpdated()).isFalse();
+    assertThat(response.getCallbackContext().isTagsUpdated()).isTrue();
+  }
+
   @Test
   public void testUpdateAssessment_failedUpdate_shouldThrowException() {
     final ResourceModel previousResourceModel =
         Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
     final ResourceModel currentResourceModel =
         Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    currentResourceModel.setName(ASSESSMENT_NAME_UPDATED);
     final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
         .desiredResourceState(currentResourceModel)
         .previousResourceState(previousResourceModel)
@@ -169,22 +373,98 @@ public class UpdateHandlerTest extends AbstractTestBase {
   }
 
   @Test
-  public void testUpdateAssessment_multipleUpdates_shouldThrowInvalidRequest() {
+  public void testUpdateAssessment_metadataAndStatusChange_shouldUpdateMetadataThenStatus() {
     final ResourceModel previousResourceModel =
         Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
     final ResourceModel currentResourceModel =
         Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
     currentResourceModel.setName(ASSESSMENT_NAME_UPDATED);
     currentResourceModel.setStatus(INACTIVE_ASSESSMENT_STATUS);
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(currentResourceModel)
+        .previousResourceState(previousResourceModel)
+        .build();
+    when(proxyClient.client().updateAssessment(any(UpdateAssessmentRequest.class)))
+        .thenReturn(UpdateAssessmentResponse.builder().assessment(makeAssessment(null, null)).build());
+    when(proxyClient.client().updateAssessmentStatus(any(UpdateAssessmentStatusRequest.class)))
+        .thenReturn(UpdateAssessmentStatusResponse.builder().assessment(makeAssessment(null, null)).build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        handler.handleRequest(proxy, request, null, proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModel().getAssessmentId()).isEqualTo(ASSESSMENT_ID);
+    final InOrder inOrder = inOrder(proxyClient.client());
+    inOrder.verify(proxyClient.client()).updateAssessment(any(UpdateAssessmentRequest.class));
+    inOrder.verify(proxyClient.client()).updateAssessmentStatus(any(UpdateAssessmentStatusRequest.class));
+  }
 
+  @Test
+  public void testUpdateAssessment_statusThrottledAfterMetadata_shouldResumeWithStatus() {
+    final ResourceModel previousResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    final ResourceModel currentResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    currentResourceModel.setName(ASSESSMENT_NAME_UPDATED);
+    currentResourceModel.setStatus(INACTIVE_ASSESSMENT_STATUS);
     final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
         .desiredResourceState(currentResourceModel)
         .previousResourceState(previousResourceModel)
         .build();
+    when(proxyClient.client().updateAssessment(any(UpdateAssessmentRequest.class)))
+        .thenReturn(UpdateAssessmentResponse.builder().assessment(makeAssessment(null, null)).build());
+    when(proxyClient.client().updateAssessmentStatus(any(UpdateAssessmentStatusRequest.class)))
+        .thenThrow(makeThrottlingException())
+        .thenReturn(UpdateAssessmentStatusResponse.builder().assessment(makeAssessment(null, null)).build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> throttled =
+        handler.handleRequest(proxy, request, null, proxyClient, logger);
+    assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(throttled.getCallbackContext().isMetadataUpdated()).isTrue();
+    assertThat(throttled.getCallbackContext().isTagsUpdated()).isTrue();
+
+    final ProgressEvent<ResourceModel, CallbackContext> resumed =
+        handler.handleRequest(proxy, request, throttled.getCallbackContext(), proxyClient, logger);
+    assertThat(resumed.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    verify(proxyClient.client(), times(1)).updateAssessment(any(UpdateAssessmentRequest.class));
+    verify(proxyClient.client(), times(2)).updateAssessmentStatus(any(UpdateAssessmentStatusRequest.class));
+  }
 
-    assertThrows(CfnInvalidRequestException.class, () ->
-        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
-    verifyZeroInteractions(sdkClient);
+  @Test
+  public void testUpdateAssessment_statusDeferredByRateLimit_shouldResumeWithStatus() {
+    // one call per second without waiting: the metadata update passes, the status update is deferred
+    ApiInvoker.configure(HandlerSettings.builder()
+        .rateLimitPerSecond(1).rateLimitBurst(1).rateLimitMaxWaitMillis(1L).build());
+    final ResourceModel previousResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    final ResourceModel currentResourceModel =
+        Utils.transformToAssessmentResourceModel(makeResourceModel(), makeAssessment(null, null));
+    currentResourceModel.setName(ASSESSMENT_NAME_UPDATED);
+    currentResourceModel.setStatus(INACTIVE_ASSESSMENT_STATUS);
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(currentResourceModel)
+        .previousResourceState(previousResourceModel)
+        .awsAccountId(ACCOUNT_ID)
+        .region(REGION)
+        .build();
+    when(proxyClient.client().updateAssessment(any(UpdateAssessmentRequest.class)))
+        .thenReturn(UpdateAssessmentResponse.builder().assessment(makeAssessment(null, null)).build());
+    when(proxyClient.client().updateAssessmentStatus(any(UpdateAssessmentStatusRequest.class)))
+        .thenReturn(UpdateAssessmentStatusResponse.builder().assessment(makeAssessment(null, null)).build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> deferred =
+        handler.handleRequest(proxy, request, null, proxyClient, logger);
+    assertThat(deferred.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(deferred.getCallbackDelaySeconds()).isEqualTo(1);
+    assertThat(deferred.getCallbackContext().isMetadataUpdated()).isTrue();
+    verify(proxyClient.client(), never()).updateAssessmentStatus(any(UpdateAssessmentStatusRequest.class));
+
+    ApiInvoker.configure(HandlerSettings.defaults());
+    final ProgressEvent<ResourceModel, CallbackContext> resumed =
+        handler.handleRequest(proxy, request, deferred.getCallbackContext(), proxyClient, logger);
+    assertThat(resumed.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    verify(proxyClient.client(), times(1)).updateAssessment(any(UpdateAssessmentRequest.class));
+    verify(proxyClient.client(), times(1)).updateAssessmentStatus(any(UpdateAssessmentStatusRequest.class));
   }
 
   @Test
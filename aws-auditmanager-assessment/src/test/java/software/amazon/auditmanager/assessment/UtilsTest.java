@@ -10,7 +10,9 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Random;
 import com.google.common.collect.Lists;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +31,11 @@ import software.amazon.awssdk.services.auditmanager.model.ListAssessmentsRespons
 @ExtendWith(MockitoExtension.class)
 public class UtilsTest extends AbstractTestBase {
 
+  private static final long TIMESTAMP_SEED = 20201215L;
+  private static final int TIMESTAMP_SAMPLES = 100_000;
+  private static final long MIN_EPOCH_MILLI = -2208988800000L;
+  private static final long MAX_EPOCH_MILLI = 4102444800000L;
+
   @Test
   public void testTransformToAssessmentResourceModel_withAssessmentNoTags_shouldTransform() {
     final ResourceModel actualResourceModel = Utils.transformToAssessmentResourceModel(makeResourceModel(),
@@ -107,11 +114,52 @@ public class UtilsTest extends AbstractTestBase {
     });
   }
 
+  @Test
+  public void testTransformToAssessmentIdentifiers_withListAssessmentsResponse_shouldKeepIdentifiersOnly() {
+    final ListAssessmentsResponse listAssessmentsResponse = ListAssessmentsResponse.builder()
+        .assessmentMetadata(Lists.newArrayList(makeAssessmentMetadataItem(), makeAssessmentMetadataItem()))
+        .build();
+    final List<ResourceModel> resourceModels = Utils.transformToAssessmentIdentifiers(listAssessmentsResponse);
+    assertEquals(2, resourceModels.size());
+    resourceModels.forEach(resourceModel ->
+        assertEquals(ResourceModel.builder().assessmentId(ASSESSMENT_ID).build(), resourceModel));
+    assertNull(Utils.transformToAssessmentIdentifiers(null));
+  }
+
   @Test
   public void testTransformToListAssessmentsResponse_withNullListAssessmentsResponse_shouldTransform() {
     assertNull(Utils.transformToListAssessmentsResponse(null));
   }
 
+  @Test
+  public void testTranslateInstantToDouble_shouldKeepMilliseconds() {
+    assertEquals(1234567.891d, Utils.translateInstantToDouble(Instant.ofEpochMilli(CREATION_TIME)));
+    assertEquals(Instant.ofEpochMilli(CREATION_TIME), Utils.translateDoubleToInstant(1234567.891d));
+    assertEquals(Instant.ofEpochSecond(1234567, 891_000_000),
+        Utils.translateDoubleToInstant(Utils.translateInstantToDouble(Instant.ofEpochSecond(1234567, 891_999_999))));
+  }
+
+  @Test
+  public void testTranslateTimestamps_withNull_shouldReturnNull() {
+    assertNull(Utils.translateInstantToDouble(null));
+    assertNull(Utils.translateDoubleToInstant(null));
+  }
+
+  @Test
+  public void testTranslateTimestamps_randomMilliseconds_shouldRoundTrip() {
+    final Random random = new Random(TIMESTAMP_SEED);
+    for (int i = 0; i < TIMESTAMP_SAMPLES; i++) {
+      // anywhere between 1900 and 2100
+      final long epochMilli = MIN_EPOCH_MILLI + (long) (random.nextDouble() * (MAX_EPOCH_MILLI - MIN_EPOCH_MILLI));
+      final Instant instant = Instant.ofEpochMilli(epochMilli);
+
+      final Double epochSeconds = Utils.translateInstantToDouble(instant);
+      assertEquals(instant, Utils.translateDoubleToInstant(epochSeconds), "epochMilli=" + epochMilli);
+      assertEquals(epochSeconds, Utils.translateInstantToDouble(Utils.translateDoubleToInstant(epochSeconds)),
+          "epochMilli=" + epochMilli);
+    }
+  }
+
   private static void validateResourceModel(final Assessment expectedAssessment,
                                             final ResourceModel actualResourceModel) {
     assertEquals(expectedAssessment.arn(), actualResourceModel.getArn());